@@ -0,0 +1,139 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Spherical geometry helpers operating on primitive coordinates to avoid allocations. */
+public class GeoUtil {
+  public static final double EARTH_RADIUS_METERS = 6371008.8;
+
+  /**
+   * Returns the great-circle distance between two coordinates using the haversine formula.
+   *
+   * @return distance in meters
+   */
+  public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+    double phi1 = Math.toRadians(lat1);
+    double phi2 = Math.toRadians(lat2);
+    double dPhi = phi2 - phi1;
+    double dLambda = Math.toRadians(lng2 - lng1);
+
+    double sinHalfDPhi = Math.sin(dPhi / 2);
+    double sinHalfDLambda = Math.sin(dLambda / 2);
+    double a =
+        sinHalfDPhi * sinHalfDPhi
+            + Math.cos(phi1) * Math.cos(phi2) * sinHalfDLambda * sinHalfDLambda;
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  /**
+   * Encodes the points in {@code [from, to)} with the Google encoded polyline algorithm (1e5
+   * precision).
+   */
+  public static String encodePolyline(List<LatLng> latLngs, int from, int to) {
+    StringBuilder builder = new StringBuilder((to - from) * 8);
+    long previousLat = 0;
+    long previousLng = 0;
+    for (int i = from; i < to; i++) {
+      LatLng latLng = latLngs.get(i);
+      long lat = Math.round(latLng.latitude * 1e5);
+      long lng = Math.round(latLng.longitude * 1e5);
+      encodePolylineValue(lat - previousLat, builder);
+      encodePolylineValue(lng - previousLng, builder);
+      previousLat = lat;
+      previousLng = lng;
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Simplifies the polyline with the Douglas-Peucker algorithm, keeping every point that deviates
+   * more than the tolerance from the simplified line. Runs iteratively, so it is safe for polylines
+   * with hundreds of thousands of points.
+   */
+  public static List<LatLng> simplify(List<LatLng> latLngs, double toleranceMeters) {
+    int n = latLngs.size();
+    if (n < 3 || toleranceMeters <= 0) {
+      return latLngs;
+    }
+    double[] lats = new double[n];
+    double[] lngs = new double[n];
+    for (int i = 0; i < n; i++) {
+      lats[i] = latLngs.get(i).latitude;
+      lngs[i] = latLngs.get(i).longitude;
+    }
+
+    double metersPerDegree = Math.toRadians(EARTH_RADIUS_METERS);
+    boolean[] keep = new boolean[n];
+    keep[0] = true;
+    keep[n - 1] = true;
+    // Pending [first, last] ranges; ranges on the stack never overlap, so n entries suffice.
+    int[] stack = new int[2 * n];
+    int top = 0;
+    stack[top++] = 0;
+    stack[top++] = n - 1;
+    while (top > 0) {
+      int last = stack[--top];
+      int first = stack[--top];
+      // Distances to the segment in an equirectangular projection around its start, in degrees of
+      // latitude. Accurate for the short segments of a route and cheap enough for the inner loop.
+      double cosLat = Math.cos(Math.toRadians(lats[first]));
+      double dx = (lngs[last] - lngs[first]) * cosLat;
+      double dy = lats[last] - lats[first];
+      double lengthSquared = dx * dx + dy * dy;
+      double maxDistanceSquared = 0;
+      int farthest = -1;
+      for (int i = first + 1; i < last; i++) {
+        double x = (lngs[i] - lngs[first]) * cosLat;
+        double y = lats[i] - lats[first];
+        double t =
+            lengthSquared > 0 ? Math.max(0, Math.min(1, (x * dx + y * dy) / lengthSquared)) : 0;
+        double ex = x - t * dx;
+        double ey = y - t * dy;
+        double distanceSquared = ex * ex + ey * ey;
+        if (distanceSquared > maxDistanceSquared) {
+          maxDistanceSquared = distanceSquared;
+          farthest = i;
+        }
+      }
+      if (farthest >= 0 && Math.sqrt(maxDistanceSquared) * metersPerDegree > toleranceMeters) {
+        keep[farthest] = true;
+        stack[top++] = first;
+        stack[top++] = farthest;
+        stack[top++] = farthest;
+        stack[top++] = last;
+      }
+    }
+
+    List<LatLng> simplified = new ArrayList<>();
+    for (int i = 0; i < n; i++) {
+      if (keep[i]) {
+        simplified.add(latLngs.get(i));
+      }
+    }
+    return simplified;
+  }
+
+  private static void encodePolylineValue(long value, StringBuilder builder) {
+    value = value < 0 ? ~(value << 1) : value << 1;
+    while (value >= 0x20) {
+      builder.append((char) ((0x20 | (value & 0x1f)) + 63));
+      value >>= 5;
+    }
+    builder.append((char) (value + 63));
+  }
+}
@@ -0,0 +1,370 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds circular and polygonal geofences in a lat/lng grid and reports enter, exit and dwell
+ * transitions for the locations it is fed.
+ */
+public class GeofenceManager {
+  /** Grid cell size in degrees, roughly 1.1 km of latitude. */
+  private static final double CELL_SIZE_DEGREES = 0.01;
+
+  private static final int MAX_CELLS_PER_GEOFENCE = 256;
+  private static final double METERS_PER_DEGREE_LAT = 111320;
+
+  public static final int TRANSITION_ENTER = 0;
+  public static final int TRANSITION_EXIT = 1;
+  public static final int TRANSITION_DWELL = 2;
+
+  public interface TransitionListener {
+    void onGeofenceTransition(int transition, String geofenceId, Location location);
+  }
+
+  /** A circle or polygon parsed from the JS {@code Geofence} object. */
+  public static class Geofence {
+    final String id;
+    final long dwellTimeMs;
+
+    // Circle
+    final double centerLat;
+    final double centerLng;
+    final double radiusMeters;
+
+    // Polygon, null for circles.
+    @Nullable final double[] vertexLats;
+    @Nullable final double[] vertexLngs;
+
+    // Bounding box
+    double minLat;
+    double maxLat;
+    double minLng;
+    double maxLng;
+
+    private Geofence(
+        String id,
+        long dwellTimeMs,
+        double centerLat,
+        double centerLng,
+        double radiusMeters,
+        @Nullable double[] vertexLats,
+        @Nullable double[] vertexLngs) {
+      this.id = id;
+      this.dwellTimeMs = Math.max(0, dwellTimeMs);
+      this.centerLat = centerLat;
+      this.centerLng = centerLng;
+      this.radiusMeters = radiusMeters;
+      this.vertexLats = vertexLats;
+      this.vertexLngs = vertexLngs;
+
+      if (vertexLats != null && vertexLngs != null) {
+        minLat = maxLat = vertexLats[0];
+        minLng = maxLng = vertexLngs[0];
+        for (int i = 1; i < vertexLats.length; i++) {
+          minLat = Math.min(minLat, vertexLats[i]);
+          maxLat = Math.max(maxLat, vertexLats[i]);
+          minLng = Math.min(minLng, vertexLngs[i]);
+          maxLng = Math.max(maxLng, vertexLngs[i]);
+        }
+      } else {
+        double dLat = radiusMeters / METERS_PER_DEGREE_LAT;
+        double cosLat = Math.max(0.01, Math.cos(Math.toRadians(centerLat)));
+        double dLng = radiusMeters / (METERS_PER_DEGREE_LAT * cosLat);
+        minLat = centerLat - dLat;
+        maxLat = centerLat + dLat;
+        minLng = centerLng - dLng;
+        maxLng = centerLng + dLng;
+      }
+    }
+
+    /**
+     * Returns the geofence described by the given map.
+     *
+     * @throws IllegalArgumentException if it has no id or neither a valid circle nor a polygon with
+     *     at least three valid vertices
+     */
+    public static Geofence fromMap(ReadableMap map) {
+      if (!map.hasKey("id") || map.getType("id") != ReadableType.String) {
+        throw new IllegalArgumentException("a string id is required");
+      }
+      String id = map.getString("id");
+      long dwellTimeMs =
+          ObjectTranslationUtil.isNumber(map, "dwellTimeMs")
+              ? (long) map.getDouble("dwellTimeMs")
+              : 0;
+
+      if (map.hasKey("polygon") && !map.isNull("polygon")) {
+        if (map.getType("polygon") != ReadableType.Array) {
+          throw new IllegalArgumentException("polygon must be an array of vertices");
+        }
+        ReadableArray polygon = map.getArray("polygon");
+        if (polygon == null || polygon.size() < 3) {
+          throw new IllegalArgumentException("polygon needs at least three vertices");
+        }
+        double[] lats = new double[polygon.size()];
+        double[] lngs = new double[polygon.size()];
+        for (int i = 0; i < polygon.size(); i++) {
+          ReadableMap vertex = polygon.getType(i) == ReadableType.Map ? polygon.getMap(i) : null;
+          if (!isLatLng(vertex)) {
+            throw new IllegalArgumentException(
+                "polygon vertex " + i + " needs a valid lat and lng");
+          }
+          lats[i] = vertex.getDouble("lat");
+          lngs[i] = vertex.getDouble("lng");
+        }
+        return new Geofence(id, dwellTimeMs, 0, 0, 0, lats, lngs);
+      }
+
+      if (map.hasKey("center") && !map.isNull("center")) {
+        ReadableMap center =
+            map.getType("center") == ReadableType.Map ? map.getMap("center") : null;
+        if (!isLatLng(center)) {
+          throw new IllegalArgumentException("center needs a valid lat and lng");
+        }
+        if (!ObjectTranslationUtil.isNumber(map, "radiusMeters")
+            || !(map.getDouble("radiusMeters") > 0)) {
+          throw new IllegalArgumentException("a circle needs a positive radiusMeters");
+        }
+        return new Geofence(
+            id,
+            dwellTimeMs,
+            center.getDouble("lat"),
+            center.getDouble("lng"),
+            map.getDouble("radiusMeters"),
+            null,
+            null);
+      }
+      throw new IllegalArgumentException(
+          "either a center and radiusMeters or a polygon is required");
+    }
+
+    private static boolean isLatLng(@Nullable ReadableMap map) {
+      if (map == null
+          || !ObjectTranslationUtil.isNumber(map, "lat")
+          || !ObjectTranslationUtil.isNumber(map, "lng")) {
+        return false;
+      }
+      double lat = map.getDouble("lat");
+      double lng = map.getDouble("lng");
+      return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
+    }
+
+    boolean contains(double lat, double lng) {
+      if (lat < minLat || lat > maxLat || lng < minLng || lng > maxLng) {
+        return false;
+      }
+      if (vertexLats == null || vertexLngs == null) {
+        return GeoUtil.distanceMeters(centerLat, centerLng, lat, lng) <= radiusMeters;
+      }
+      // Even-odd ray casting; geofences are small enough to treat lat/lng as planar.
+      boolean inside = false;
+      for (int i = 0, j = vertexLats.length - 1; i < vertexLats.length; j = i++) {
+        if ((vertexLats[i] > lat) != (vertexLats[j] > lat)
+            && lng
+                < (vertexLngs[j] - vertexLngs[i])
+                        * (lat - vertexLats[i])
+                        / (vertexLats[j] - vertexLats[i])
+                    + vertexLngs[i]) {
+          inside = !inside;
+        }
+      }
+      return inside;
+    }
+  }
+
+  /** Transition state of a geofence the user is currently inside. */
+  private static class InsideState {
+    final long enteredAt;
+    boolean dwellReported;
+
+    InsideState(long enteredAt) {
+      this.enteredAt = enteredAt;
+    }
+  }
+
+  private final TransitionListener mListener;
+  private final HashMap<String, Geofence> mGeofences = new HashMap<>();
+  private final HashMap<Long, ArrayList<Geofence>> mGrid = new HashMap<>();
+  private final ArrayList<Geofence> mOversized = new ArrayList<>();
+  private final HashMap<String, InsideState> mInside = new HashMap<>();
+
+  public GeofenceManager(TransitionListener listener) {
+    mListener = listener;
+  }
+
+  private static long cellKey(int row, int col) {
+    return ((long) row << 32) | (col & 0xffffffffL);
+  }
+
+  private static int cellIndex(double degrees) {
+    return (int) Math.floor(degrees / CELL_SIZE_DEGREES);
+  }
+
+  /** Adds the given geofences, replacing existing ones with the same id. */
+  public synchronized void addGeofences(List<Geofence> geofences) {
+    for (Geofence geofence : geofences) {
+      removeGeofence(geofence.id);
+      mGeofences.put(geofence.id, geofence);
+
+      int minRow = cellIndex(geofence.minLat);
+      int maxRow = cellIndex(geofence.maxLat);
+      int minCol = cellIndex(geofence.minLng);
+      int maxCol = cellIndex(geofence.maxLng);
+      if ((long) (maxRow - minRow + 1) * (maxCol - minCol + 1) > MAX_CELLS_PER_GEOFENCE) {
+        mOversized.add(geofence);
+        continue;
+      }
+      for (int row = minRow; row <= maxRow; row++) {
+        for (int col = minCol; col <= maxCol; col++) {
+          long key = cellKey(row, col);
+          ArrayList<Geofence> cell = mGrid.get(key);
+          if (cell == null) {
+            cell = new ArrayList<>();
+            mGrid.put(key, cell);
+          }
+          cell.add(geofence);
+        }
+      }
+    }
+  }
+
+  public synchronized void removeGeofences(List<String> ids) {
+    for (String id : ids) {
+      removeGeofence(id);
+    }
+  }
+
+  private void removeGeofence(String id) {
+    Geofence geofence = mGeofences.remove(id);
+    if (geofence == null) {
+      return;
+    }
+    mInside.remove(id);
+    if (mOversized.remove(geofence)) {
+      return;
+    }
+    for (int row = cellIndex(geofence.minLat); row <= cellIndex(geofence.maxLat); row++) {
+      for (int col = cellIndex(geofence.minLng); col <= cellIndex(geofence.maxLng); col++) {
+        long key = cellKey(row, col);
+        ArrayList<Geofence> cell = mGrid.get(key);
+        if (cell != null) {
+          cell.remove(geofence);
+          if (cell.isEmpty()) {
+            mGrid.remove(key);
+          }
+        }
+      }
+    }
+  }
+
+  public synchronized void clearGeofences() {
+    mGeofences.clear();
+    mGrid.clear();
+    mOversized.clear();
+    mInside.clear();
+  }
+
+  /** Forgets which geofences the user is inside, so the next fix reports fresh enter events. */
+  public synchronized void resetTransitions() {
+    mInside.clear();
+  }
+
+  public synchronized boolean isEmpty() {
+    return mGeofences.isEmpty();
+  }
+
+  /** A transition found while the lock is held, reported once it is released. */
+  private static class Transition {
+    final int type;
+    final String geofenceId;
+
+    Transition(int type, String geofenceId) {
+      this.type = type;
+      this.geofenceId = geofenceId;
+    }
+  }
+
+  /**
+   * Tests the location against nearby geofences and reports the resulting transitions. The
+   * listener is called after the lock is released, so a slow listener never blocks the JS module
+   * thread adding or removing geofences.
+   */
+  public void onLocation(Location location) {
+    ArrayList<Transition> transitions = new ArrayList<>();
+    synchronized (this) {
+      if (mGeofences.isEmpty()) {
+        return;
+      }
+      double lat = location.getLatitude();
+      double lng = location.getLongitude();
+      long time = location.getTime();
+
+      // Exits first: every geofence the user was inside must be re-tested.
+      Iterator<Map.Entry<String, InsideState>> it = mInside.entrySet().iterator();
+      while (it.hasNext()) {
+        Map.Entry<String, InsideState> entry = it.next();
+        Geofence geofence = mGeofences.get(entry.getKey());
+        if (geofence == null || !geofence.contains(lat, lng)) {
+          it.remove();
+          transitions.add(new Transition(TRANSITION_EXIT, entry.getKey()));
+          continue;
+        }
+        InsideState state = entry.getValue();
+        if (!state.dwellReported
+            && geofence.dwellTimeMs > 0
+            && time - state.enteredAt >= geofence.dwellTimeMs) {
+          state.dwellReported = true;
+          transitions.add(new Transition(TRANSITION_DWELL, geofence.id));
+        }
+      }
+
+      ArrayList<Geofence> cell = mGrid.get(cellKey(cellIndex(lat), cellIndex(lng)));
+      if (cell != null) {
+        checkEnter(cell, lat, lng, time, transitions);
+      }
+      checkEnter(mOversized, lat, lng, time, transitions);
+    }
+
+    for (Transition transition : transitions) {
+      mListener.onGeofenceTransition(transition.type, transition.geofenceId, location);
+    }
+  }
+
+  private void checkEnter(
+      List<Geofence> candidates,
+      double lat,
+      double lng,
+      long time,
+      List<Transition> transitions) {
+    for (int i = 0; i < candidates.size(); i++) {
+      Geofence geofence = candidates.get(i);
+      if (mInside.containsKey(geofence.id) || !geofence.contains(lat, lng)) {
+        continue;
+      }
+      mInside.put(geofence.id, new InsideState(time));
+      transitions.add(new Transition(TRANSITION_ENTER, geofence.id));
+    }
+  }
+}
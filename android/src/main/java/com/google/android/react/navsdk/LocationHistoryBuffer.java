@@ -0,0 +1,188 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed-capacity ring buffer of location fixes backed by primitive arrays, which overwrites the
+ * oldest fix once full. Fixes are queried by a recording sequence number shared by all buffers, as
+ * fix times are wall-clock times that can step backwards.
+ */
+public class LocationHistoryBuffer {
+  public static final int DEFAULT_CAPACITY = 3600;
+
+  private static final AtomicLong sSequence = new AtomicLong();
+
+  private final int mCapacity;
+  private final double[] mLat;
+  private final double[] mLng;
+  private final long[] mSequence;
+  private final long[] mTime;
+  private final float[] mSpeed;
+  private final float[] mBearing;
+  private final float[] mAccuracy;
+  private final double[] mAltitude;
+  private final byte[] mFlags;
+  private final byte[] mProviderIndex;
+  private final ArrayList<String> mProviders = new ArrayList<>();
+
+  /** Index of the oldest fix. */
+  private int mHead = 0;
+
+  private int mSize = 0;
+  private long mTotalRecorded = 0;
+
+  public LocationHistoryBuffer(int capacity) {
+    capacity = Math.max(1, capacity);
+    mCapacity = capacity;
+    mLat = new double[capacity];
+    mLng = new double[capacity];
+    mSequence = new long[capacity];
+    mTime = new long[capacity];
+    mSpeed = new float[capacity];
+    mBearing = new float[capacity];
+    mAccuracy = new float[capacity];
+    mAltitude = new double[capacity];
+    mFlags = new byte[capacity];
+    mProviderIndex = new byte[capacity];
+  }
+
+  public synchronized void record(Location location) {
+    int slot = (mHead + mSize) % mCapacity;
+    if (mSize == mCapacity) {
+      mHead = (mHead + 1) % mCapacity;
+    } else {
+      mSize++;
+    }
+
+    int flags = 0;
+    // Taken under the lock, so sequence numbers increase in recording order.
+    mSequence[slot] = sSequence.incrementAndGet();
+    mLat[slot] = location.getLatitude();
+    mLng[slot] = location.getLongitude();
+    mTime[slot] = location.getTime();
+    mSpeed[slot] = location.getSpeed();
+    if (location.hasBearing()) {
+      flags |= ObjectTranslationUtil.PACKED_LOCATION_HAS_BEARING;
+    }
+    mBearing[slot] = location.hasBearing() ? location.getBearing() : 0;
+    if (location.hasAccuracy()) {
+      flags |= ObjectTranslationUtil.PACKED_LOCATION_HAS_ACCURACY;
+    }
+    mAccuracy[slot] = location.hasAccuracy() ? location.getAccuracy() : 0;
+    if (location.hasAltitude()) {
+      flags |= ObjectTranslationUtil.PACKED_LOCATION_HAS_ALTITUDE;
+    }
+    mAltitude[slot] = location.hasAltitude() ? location.getAltitude() : 0;
+    mFlags[slot] = (byte) flags;
+    mProviderIndex[slot] = (byte) internProvider(location.getProvider());
+    mTotalRecorded++;
+  }
+
+  private int internProvider(String provider) {
+    String name = provider != null ? provider : "";
+    int index = mProviders.indexOf(name);
+    if (index >= 0) {
+      return index;
+    }
+    // Providers are a handful of fixed names; fall back to the first entry if that ever changes.
+    if (mProviders.size() >= Byte.MAX_VALUE) {
+      return 0;
+    }
+    mProviders.add(name);
+    return mProviders.size() - 1;
+  }
+
+  public synchronized void clear() {
+    mHead = 0;
+    mSize = 0;
+    mTotalRecorded = 0;
+  }
+
+  /** Returns the sequence number of the latest fix recorded by any buffer. */
+  public static long getLastSequence() {
+    return sSequence.get();
+  }
+
+  /** Returns the logical index of the first fix whose sequence number is after the given one. */
+  private int firstIndexAfter(long sequence) {
+    int low = 0;
+    int high = mSize;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (mSequence[(mHead + mid) % mCapacity] <= sequence) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns the sequence number of the {@code maxCount}-th fix after {@code sinceSequence}, or
+   * {@code untilSequence} if there are fewer fixes up to it.
+   */
+  public synchronized long getCutoffSequence(long sinceSequence, long untilSequence, int maxCount) {
+    int index = firstIndexAfter(sinceSequence) + maxCount - 1;
+    if (index >= mSize) {
+      return untilSequence;
+    }
+    return Math.min(mSequence[(mHead + index) % mCapacity], untilSequence);
+  }
+
+  /**
+   * Returns the fixes whose sequence number is after {@code sinceSequence} and at most {@code
+   * untilSequence}, oldest first, in the packed columnar encoding.
+   */
+  public synchronized WritableMap getPackedMapBetween(long sinceSequence, long untilSequence) {
+    int start = firstIndexAfter(sinceSequence);
+    int count = Math.max(0, firstIndexAfter(untilSequence) - start);
+
+    ObjectTranslationUtil.PackedLocationsBuilder builder =
+        new ObjectTranslationUtil.PackedLocationsBuilder();
+    for (int i = 0; i < count; i++) {
+      int slot = (mHead + start + i) % mCapacity;
+      builder.add(
+          mLat[slot],
+          mLng[slot],
+          mTime[slot],
+          mSpeed[slot],
+          mBearing[slot],
+          mAccuracy[slot],
+          mAltitude[slot],
+          mFlags[slot],
+          mProviders.get(mProviderIndex[slot]));
+    }
+    return builder.build();
+  }
+
+  public synchronized WritableMap getStatsMap() {
+    WritableMap map = Arguments.createMap();
+    map.putInt("count", mSize);
+    map.putInt("capacity", mCapacity);
+    map.putDouble("totalRecorded", mTotalRecorded);
+    map.putDouble("dropped", mTotalRecorded - mSize);
+    if (mSize > 0) {
+      map.putDouble("oldestTime", mTime[mHead]);
+      map.putDouble("newestTime", mTime[(mHead + mSize - 1) % mCapacity]);
+    }
+    return map;
+  }
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.ReadableMap;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Throttles road-snapped and raw location updates and hands them over in batches, so that several
+ * fixes can be delivered to JS in a single event instead of one event per fix.
+ *
+ * <p>A fix is accepted only if both the minimum interval and the minimum distance since the last
+ * accepted fix of the same stream have been reached. Accepted fixes are flushed when either stream
+ * reaches the maximum batch size, or when the oldest pending fix has waited for the maximum batch
+ * latency. All methods must be called on the main thread.
+ */
+public class LocationStreamBatcher {
+  private static final int DEFAULT_MAX_BATCH_SIZE = 10;
+  private static final long DEFAULT_MAX_BATCH_LATENCY_MS = 1000;
+
+  /** JS {@code LocationEncoding} values. */
+  private static final int ENCODING_PACKED = 1;
+
+  public interface BatchListener {
+    void onLocationBatch(List<Location> locations, List<Location> rawLocations);
+  }
+
+  /** Streaming options parsed from the JS {@code LocationStreamingOptions} object. */
+  public static class Options {
+    final long minIntervalMs;
+    final double minDistanceMeters;
+    final int maxBatchSize;
+    final long maxBatchLatencyMs;
+    final boolean packed;
+
+    Options(
+        long minIntervalMs,
+        double minDistanceMeters,
+        int maxBatchSize,
+        long maxBatchLatencyMs,
+        boolean packed) {
+      this.minIntervalMs = Math.max(0, minIntervalMs);
+      this.minDistanceMeters = Math.max(0, minDistanceMeters);
+      this.maxBatchSize = Math.max(1, maxBatchSize);
+      this.maxBatchLatencyMs = Math.max(0, maxBatchLatencyMs);
+      this.packed = packed;
+    }
+
+    /**
+     * Returns the options described by the given map, or null if streaming was not requested
+     * (valid flag pattern for codegen nullable objects).
+     */
+    @Nullable
+    public static Options fromMap(@Nullable ReadableMap map) {
+      if (map == null || !map.hasKey("valid") || !map.getBoolean("valid")) {
+        return null;
+      }
+      return new Options(
+          map.hasKey("minIntervalMs") ? (long) map.getDouble("minIntervalMs") : 0,
+          map.hasKey("minDistanceMeters") ? map.getDouble("minDistanceMeters") : 0,
+          map.hasKey("maxBatchSize") ? (int) map.getDouble("maxBatchSize") : DEFAULT_MAX_BATCH_SIZE,
+          map.hasKey("maxBatchLatencyMs")
+              ? (long) map.getDouble("maxBatchLatencyMs")
+              : DEFAULT_MAX_BATCH_LATENCY_MS,
+          map.hasKey("encoding") && (int) map.getDouble("encoding") == ENCODING_PACKED);
+    }
+  }
+
+  /** Throttling state of a single location stream. */
+  private static class StreamState {
+    private boolean mHasLastAccepted = false;
+    private long mLastAcceptedTime;
+    private double mLastAcceptedLat;
+    private double mLastAcceptedLng;
+    private ArrayList<Location> mPending = new ArrayList<>();
+
+    boolean accept(Location location, Options options) {
+      if (mHasLastAccepted) {
+        if (location.getTime() - mLastAcceptedTime < options.minIntervalMs) {
+          return false;
+        }
+        if (options.minDistanceMeters > 0
+            && GeoUtil.distanceMeters(
+                    mLastAcceptedLat,
+                    mLastAcceptedLng,
+                    location.getLatitude(),
+                    location.getLongitude())
+                < options.minDistanceMeters) {
+          return false;
+        }
+      }
+      mHasLastAccepted = true;
+      mLastAcceptedTime = location.getTime();
+      mLastAcceptedLat = location.getLatitude();
+      mLastAcceptedLng = location.getLongitude();
+      mPending.add(location);
+      return true;
+    }
+
+    List<Location> drain() {
+      List<Location> drained = mPending;
+      mPending = new ArrayList<>();
+      return drained;
+    }
+  }
+
+  private final Options mOptions;
+  private final BatchListener mListener;
+  private final Handler mHandler = new Handler(Looper.getMainLooper());
+  private final StreamState mRoadSnapped = new StreamState();
+  private final StreamState mRaw = new StreamState();
+  private final Runnable mFlushRunnable = this::flush;
+  private boolean mFlushScheduled = false;
+
+  public LocationStreamBatcher(Options options, BatchListener listener) {
+    mOptions = options;
+    mListener = listener;
+  }
+
+  public void onLocation(Location location) {
+    if (mRoadSnapped.accept(location, mOptions)) {
+      onAccepted(mRoadSnapped);
+    }
+  }
+
+  public void onRawLocation(Location location) {
+    if (mRaw.accept(location, mOptions)) {
+      onAccepted(mRaw);
+    }
+  }
+
+  private void onAccepted(StreamState stream) {
+    if (stream.mPending.size() >= mOptions.maxBatchSize || mOptions.maxBatchLatencyMs == 0) {
+      flush();
+    } else if (!mFlushScheduled) {
+      mFlushScheduled = true;
+      mHandler.postDelayed(mFlushRunnable, mOptions.maxBatchLatencyMs);
+    }
+  }
+
+  /** Delivers all pending fixes immediately. */
+  public void flush() {
+    cancelScheduledFlush();
+    if (mRoadSnapped.mPending.isEmpty() && mRaw.mPending.isEmpty()) {
+      return;
+    }
+    mListener.onLocationBatch(mRoadSnapped.drain(), mRaw.drain());
+  }
+
+  /** Drops all pending fixes and stops the latency timer. */
+  public void release() {
+    cancelScheduledFlush();
+    mRoadSnapped.drain();
+    mRaw.drain();
+  }
+
+  private void cancelScheduledFlush() {
+    if (mFlushScheduled) {
+      mHandler.removeCallbacks(mFlushRunnable);
+      mFlushScheduled = false;
+    }
+  }
+}
@@ -729,6 +729,19 @@ public class MapViewController implements INavigationViewControllerProperties {
         });
   }
 
+  /**
+   * Replaces the points of the polyline with the given effective ID. Returns false if there is no
+   * such polyline.
+   */
+  public boolean setPolylinePoints(String id, List<LatLng> points) {
+    Polyline polyline = polylineMap.get(id);
+    if (polyline == null) {
+      return false;
+    }
+    polyline.setPoints(points);
+    return true;
+  }
+
   public void removePolyline(String id) {
     Polyline polyline = polylineMap.get(id);
     if (polyline != null) {
@@ -25,7 +25,9 @@ public class NavForwardingManager {
         navigator.registerServiceForNavUpdates(
             context.getPackageName(),
             NavInfoReceivingService.class.getName(),
-            /* numNextStepsToPreview= */ Integer.MAX_VALUE); // Send all remaining steps.
+            // Send all remaining steps. Live events may carry fewer of them, but the full list is
+            // cached natively to serve paged remaining-steps requests.
+            /* numNextStepsToPreview= */ Integer.MAX_VALUE);
     if (success) {
       navigationCallback.logDebugInfo("Successfully registered service for nav updates");
     } else {
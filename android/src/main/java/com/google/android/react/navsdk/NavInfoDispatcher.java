@@ -0,0 +1,76 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import com.google.android.libraries.mapsplatform.turnbyturn.TurnByTurnManager;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands nav info updates over to a dedicated background thread, keeping the parsing and the
+ * conversion to JS payloads off the main thread.
+ *
+ * <p>Updates are conflated: if several updates arrive while the consumer is still busy, only the
+ * latest one is parsed and delivered. A route change reported by a replaced update is not lost, as
+ * consumers also learn about route changes from the navigator, see {@link TurnByTurnEventBuilder}.
+ */
+public class NavInfoDispatcher {
+  public interface NavInfoConsumer {
+    void onNavInfo(NavInfo navInfo);
+  }
+
+  private final Handler mHandler;
+  private final NavInfoConsumer mConsumer;
+  private final TurnByTurnManager mTurnByTurnManager = TurnByTurnManager.createInstance();
+  private final AtomicReference<Bundle> mPending = new AtomicReference<>();
+  private final Runnable mDrainRunnable = this::drain;
+
+  public NavInfoDispatcher(NavInfoConsumer consumer) {
+    mConsumer = consumer;
+    HandlerThread thread =
+        new HandlerThread("NavInfoDispatcher", Process.THREAD_PRIORITY_BACKGROUND);
+    thread.start();
+    mHandler = new Handler(thread.getLooper());
+  }
+
+  /** Queues the nav info bundle, replacing a pending one that was not delivered yet. Any thread. */
+  public void dispatch(Bundle navInfoBundle) {
+    if (navInfoBundle == null) {
+      return;
+    }
+    if (mPending.getAndSet(navInfoBundle) == null) {
+      mHandler.post(mDrainRunnable);
+    }
+  }
+
+  /** Runs the task on the dispatcher thread, serialized with update delivery. */
+  public void post(Runnable task) {
+    mHandler.post(task);
+  }
+
+  private void drain() {
+    Bundle navInfoBundle = mPending.getAndSet(null);
+    if (navInfoBundle == null) {
+      return;
+    }
+    NavInfo navInfo = mTurnByTurnManager.readNavInfoFromBundle(navInfoBundle);
+    if (navInfo != null) {
+      mConsumer.onNavInfo(navInfo);
+    }
+  }
+}
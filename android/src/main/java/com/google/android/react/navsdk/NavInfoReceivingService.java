@@ -15,6 +15,7 @@ package com.google.android.react.navsdk;
 
 import android.app.Service;
 import android.content.Intent;
+import android.os.Bundle;
 import android.os.Handler;
 import android.os.HandlerThread;
 import android.os.IBinder;
@@ -34,6 +35,10 @@ import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
  * service may be part of a different process aside from the main process, depending on how you want
  * to structure your app. The service binding will be able to handle interprocess communication to
  * receive nav info messages from the main process.
+ *
+ * <p>In-process consumers can instead set a {@link NavInfoListener}, which gets the raw bundles on
+ * the service thread without the main thread hop of live data. Bundles are then only parsed for
+ * live data while it has observers.
  */
 public class NavInfoReceivingService extends Service {
   /** The messenger used by the service to receive nav step updates. */
@@ -44,6 +49,17 @@ public class NavInfoReceivingService extends Service {
 
   private static final MutableLiveData<NavInfo> mNavInfoMutableLiveData = new MutableLiveData<>();
 
+  /**
+   * Receives the raw nav info bundles directly on the service thread, without a main thread hop.
+   * Only called in the process hosting this service.
+   */
+  public interface NavInfoListener {
+    /** The bundle can be parsed with {@link TurnByTurnManager#readNavInfoFromBundle}. */
+    void onNavInfoBundle(Bundle navInfoBundle);
+  }
+
+  @Nullable private static volatile NavInfoListener sNavInfoListener;
+
   private final class IncomingNavStepHandler extends Handler {
     public IncomingNavStepHandler(Looper looper) {
       super(looper);
@@ -52,10 +68,18 @@ public class NavInfoReceivingService extends Service {
     @Override
     public void handleMessage(Message msg) {
       if (TurnByTurnManager.MSG_NAV_INFO == msg.what) {
-        // Read the nav info from the message data.
-        NavInfo navInfo = mTurnByTurnManager.readNavInfoFromBundle(msg.getData());
-        // Post the value to LiveData to be displayed in the nav info header.
-        mNavInfoMutableLiveData.postValue(navInfo);
+        Bundle navInfoBundle = msg.getData();
+        NavInfoListener listener = sNavInfoListener;
+        if (listener != null) {
+          listener.onNavInfoBundle(navInfoBundle);
+        }
+        // While only the in-process listener consumes updates, skip parsing for LiveData.
+        if (listener == null || mNavInfoMutableLiveData.hasObservers()) {
+          // Read the nav info from the message data.
+          NavInfo navInfo = mTurnByTurnManager.readNavInfoFromBundle(navInfoBundle);
+          // Post the value to LiveData to be displayed in the nav info header.
+          mNavInfoMutableLiveData.postValue(navInfo);
+        }
       }
     }
   }
@@ -84,4 +108,13 @@ public class NavInfoReceivingService extends Service {
   public static LiveData<NavInfo> getNavInfoLiveData() {
     return mNavInfoMutableLiveData;
   }
+
+  /**
+   * Sets the listener called on the service thread for every nav info update. Unlike {@link
+   * #getNavInfoLiveData()}, the listener is not conflated and does not involve the main thread.
+   * Parsing is left to the listener, which can skip updates it conflates away.
+   */
+  public static void setNavInfoListener(@Nullable NavInfoListener listener) {
+    sNavInfoListener = listener;
+  }
 }
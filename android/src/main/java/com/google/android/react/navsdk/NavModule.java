@@ -15,9 +15,12 @@ package com.google.android.react.navsdk;
 
 import android.app.Activity;
 import android.location.Location;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Base64;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import androidx.lifecycle.Observer;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.LifecycleEventListener;
 import com.facebook.react.bridge.Promise;
@@ -29,11 +32,9 @@ import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
-import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
 import com.google.android.libraries.navigation.ArrivalEvent;
 import com.google.android.libraries.navigation.CustomRoutesOptions;
 import com.google.android.libraries.navigation.DisplayOptions;
-import com.google.android.libraries.navigation.ListenableResultFuture;
 import com.google.android.libraries.navigation.NavigationApi;
 import com.google.android.libraries.navigation.NavigationApi.OnTermsResponseListener;
 import com.google.android.libraries.navigation.Navigator;
@@ -49,11 +50,15 @@ import com.google.android.libraries.navigation.TermsAndConditionsUIParams;
 import com.google.android.libraries.navigation.TimeAndDistance;
 import com.google.android.libraries.navigation.Waypoint;
 import com.google.maps.android.rn.navsdk.NativeNavModuleSpec;
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * TurboModule for navigation controller operations. Manages navigation sessions, routing, guidance,
@@ -65,22 +70,82 @@ public class NavModule extends NativeNavModuleSpec
   private static NavModule instance;
   private static ModuleReadyListener moduleReadyListener;
 
+  // Events that are only listened to or built while JS subscribes to them.
+  private static final String EVENT_ARRIVAL = "onArrival";
+  private static final String EVENT_ROUTE_CHANGED = "onRouteChanged";
+  private static final String EVENT_TRAFFIC_UPDATED = "onTrafficUpdated";
+  private static final String EVENT_REROUTING_REQUESTED_BY_OFF_ROUTE =
+      "onReroutingRequestedByOffRoute";
+  private static final String EVENT_REMAINING_TIME_OR_DISTANCE_CHANGED =
+      "onRemainingTimeOrDistanceChanged";
+  private static final String EVENT_SPEEDING = "onSpeeding";
+
   ReactApplicationContext reactContext;
   private Navigator mNavigator;
-  private final ArrayList<Waypoint> mWaypoints = new ArrayList<>();
-  private ListenableResultFuture<Navigator.RouteStatus> pendingRoute;
+  private final RouteMetrics mRouteMetrics = new RouteMetrics();
+  private final RouteRequestScheduler mRouteRequestScheduler =
+      new RouteRequestScheduler(mRouteMetrics);
   private RoadSnappedLocationProvider mRoadSnappedLocationProvider;
   private NavViewManager mNavViewManager;
   private final CopyOnWriteArrayList<NavigationReadyListener> mNavigationReadyListeners =
       new CopyOnWriteArrayList<>();
+  // Whether JS asked for location events. Native consumers may keep the listener attached without.
   private volatile boolean mIsListeningRoadSnappedLocation = false;
   private LocationListener mLocationListener;
+  @Nullable private LocationStreamBatcher mLocationStreamBatcher;
+  private final LocationHistoryBuffer mLocationHistory =
+      new LocationHistoryBuffer(LocationHistoryBuffer.DEFAULT_CAPACITY);
+  private final LocationHistoryBuffer mRawLocationHistory =
+      new LocationHistoryBuffer(LocationHistoryBuffer.DEFAULT_CAPACITY);
+  private final GeofenceManager mGeofenceManager = new GeofenceManager(this::emitGeofenceEvent);
+  private final TripStatisticsAccumulator mTripStatistics = new TripStatisticsAccumulator();
+  private volatile long mTripStatisticsUpdateIntervalMs = 0;
+  private long mLastTripStatisticsUpdateTime = 0;
+  // Number of JS subscribers by event name. Only accessed on the UI thread.
+  private final HashMap<String, Integer> mNavigationListenerSubscribers = new HashMap<>();
   private Navigator.ArrivalListener mArrivalListener;
   private Navigator.RouteChangedListener mRouteChangedListener;
   private Navigator.TrafficUpdatedListener mTrafficUpdatedListener;
   private Navigator.ReroutingListener mReroutingListener;
   private Navigator.RemainingTimeOrDistanceChangedListener mRemainingTimeOrDistanceChangedListener;
-  private Observer<NavInfo> mNavInfoObserver;
+  private final SpeedingMonitor mSpeedingMonitor = new SpeedingMonitor(this::emitOnSpeeding);
+  private boolean mIsSpeedingListenerRegistered = false;
+  private volatile int mRemainingTimeThresholdSeconds = 0;
+  private volatile int mRemainingDistanceThresholdMeters = 0;
+  private volatile long mRemainingTimeOrDistanceMinIntervalMs = 0;
+  // Only accessed on the UI thread.
+  private long mLastRemainingTimeOrDistanceEmitTime = 0;
+  private boolean mIsRemainingTimeOrDistanceEmitPending = false;
+  private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+  private final Runnable mPendingRemainingTimeOrDistanceEmit =
+      () -> {
+        mIsRemainingTimeOrDistanceEmitPending = false;
+        emitRemainingTimeOrDistance();
+      };
+  private final StepInfoConversionCache mStepInfoCache = new StepInfoConversionCache();
+  private final TurnByTurnEventBuilder mTurnByTurnEventBuilder =
+      new TurnByTurnEventBuilder(mStepInfoCache);
+  private final NavInfoDispatcher mNavInfoDispatcher = new NavInfoDispatcher(this::showNavInfo);
+  // Whether nav info is emitted as onTurnByTurn events; it may also be forwarded for trip progress.
+  private volatile boolean mTurnByTurnEventsEnabled = false;
+  private final TripProgressAggregator mTripProgress =
+      new TripProgressAggregator(mStepInfoCache, this::emitOnTripProgress);
+  private final RouteSegmentCache mRouteSegmentCache = new RouteSegmentCache();
+  private final RouteGeometryLevels mRouteGeometryLevels = new RouteGeometryLevels();
+  private final TrafficIndex mTrafficIndex = new TrafficIndex();
+  private final RemainingRouteTracker mRemainingRouteTracker =
+      new RemainingRouteTracker(mRouteGeometryLevels);
+  private final TraceReplaySimulator mTraceReplay =
+      new TraceReplaySimulator(
+          latLng -> {
+            if (mNavigator != null) {
+              mNavigator.getSimulator().setUserLocation(latLng);
+            }
+          });
+  // Bumped whenever the traveled route starts over, to invalidate traveled path cursors.
+  private final AtomicInteger mTraveledPathEpoch = new AtomicInteger();
+  // Geometry encoding of the route included in onRouteChanged, or -1 to send no route.
+  private volatile int mRouteChangedEventEncoding = -1;
 
   private @Navigator.TaskRemovedBehavior int taskRemovedBehaviour =
       Navigator.TaskRemovedBehavior.CONTINUE_SERVICE;
@@ -167,7 +232,19 @@ public class NavModule extends NativeNavModuleSpec
     }
 
     mIsListeningRoadSnappedLocation = false;
-    mWaypoints.clear();
+    mRouteRequestScheduler.cancel();
+    mTraveledPathEpoch.incrementAndGet();
+    mLocationHistory.clear();
+    mRawLocationHistory.clear();
+    mGeofenceManager.resetTransitions();
+    mTripStatistics.reset();
+    mRouteSegmentCache.invalidate();
+    mRouteGeometryLevels.clear();
+    mTrafficIndex.onRouteChanged();
+    mRemainingRouteTracker.onRouteChanged();
+    mTripProgress.reset();
+    mTraceReplay.stop();
+    mTurnByTurnEventsEnabled = false;
 
     for (NavigationReadyListener listener : mNavigationReadyListeners) {
       listener.onReady(false);
@@ -180,11 +257,13 @@ public class NavModule extends NativeNavModuleSpec
           // Remove listeners on UI thread to serialize with callback dispatch.
           // This reduces the chance of triggering a race condition in the Navigation SDK
           // where callbacks may still be in-flight during removal.
+          setLocationStreamingOptions(null);
           removeLocationListener();
           removeNavigationListeners();
-          removeNavInfoObserver();
+          removeNavInfoListener();
           // Null out fields after listener removal so the removal methods
           // can still access mNavigator and mRoadSnappedLocationProvider.
+          mTripProgress.setNavigator(null);
           mNavigator = null;
           mRoadSnappedLocationProvider = null;
           NavForwardingManager.stopNavForwarding(navigator, this);
@@ -285,16 +364,12 @@ public class NavModule extends NativeNavModuleSpec
     // Initialize the navigation API
     initializeNavigationApi();
 
-    // Observe nav info independently from the current Activity lifecycle.
+    // Receive nav info independently from the current Activity lifecycle.
     // Background turn-by-turn updates continue to arrive in NavInfoReceivingService even when the
-    // app is paused, so using an Activity-bound LiveData observer drops them while backgrounded.
-    // Remove any existing observer first to prevent duplicates after cleanup+reinit cycles.
-    UiThreadUtil.runOnUiThread(
-        () -> {
-          removeNavInfoObserver();
-          mNavInfoObserver = this::showNavInfo;
-          NavInfoReceivingService.getNavInfoLiveData().observeForever(mNavInfoObserver);
-        });
+    // app is paused, so an Activity-bound LiveData observer would drop them while backgrounded.
+    // The raw bundles are handed over in-process and only the latest pending one is parsed and
+    // converted to a JS payload, on the dispatcher thread instead of the main thread.
+    NavInfoReceivingService.setNavInfoListener(mNavInfoDispatcher::dispatch);
   }
 
   private void onNavigationReady() {
@@ -351,7 +426,7 @@ public class NavModule extends NativeNavModuleSpec
       }
       pendingInitPromise.reject(errorCodeStr, errorMessage);
       pendingInitPromise = null;
-      UiThreadUtil.runOnUiThread(this::removeNavInfoObserver);
+      removeNavInfoListener();
     }
   }
 
@@ -375,6 +450,11 @@ public class NavModule extends NativeNavModuleSpec
                   NavigationApi.getRoadSnappedLocationProvider(currentActivity.getApplication());
             }
             registerNavigationListeners();
+            updateLocationListener();
+            mTripProgress.setNavigator(mNavigator);
+            if (mTripProgress.isEnabled()) {
+              updateNavForwarding();
+            }
             onNavigationReady();
           }
 
@@ -412,9 +492,10 @@ public class NavModule extends NativeNavModuleSpec
    * Enable turn by turn logging using background service
    *
    * @param isEnabled
+   * @param options turn-by-turn event options, see {@code TurnByTurnOptions} in JS
    */
   @Override
-  public void setTurnByTurnLoggingEnabled(boolean isEnabled) {
+  public void setTurnByTurnLoggingEnabled(boolean isEnabled, @Nullable ReadableMap options) {
     final Activity currentActivity = getReactApplicationContext().getCurrentActivity();
     if (currentActivity == null) return;
     if (mNavigator == null) {
@@ -422,13 +503,46 @@ public class NavModule extends NativeNavModuleSpec
       return;
     }
 
+    mTurnByTurnEventsEnabled = isEnabled;
     if (isEnabled) {
+      final boolean valid =
+          options != null && options.hasKey("valid") && options.getBoolean("valid");
+      final boolean deltaUpdates =
+          valid && options.hasKey("deltaUpdates") && options.getBoolean("deltaUpdates");
+      final int stepsPreviewCount =
+          valid && options.hasKey("stepsPreviewCount")
+              ? Math.max(0, (int) options.getDouble("stepsPreviewCount"))
+              : TurnByTurnEventBuilder.ALL_STEPS;
+      // The builder is only touched on the nav info dispatcher thread.
+      mNavInfoDispatcher.post(
+          () -> mTurnByTurnEventBuilder.configure(deltaUpdates, stepsPreviewCount));
+    }
+    updateNavForwarding();
+  }
+
+  /** Forwards nav info while turn-by-turn events or trip progress snapshots need it. */
+  private void updateNavForwarding() {
+    final Activity currentActivity = getReactApplicationContext().getCurrentActivity();
+    if (currentActivity == null || mNavigator == null) {
+      return;
+    }
+    if (mTurnByTurnEventsEnabled || mTripProgress.isEnabled()) {
       NavForwardingManager.startNavForwarding(mNavigator, currentActivity, this);
     } else {
       NavForwardingManager.stopNavForwarding(mNavigator, this);
     }
   }
 
+  @Override
+  public void getRemainingSteps(double offset, double limit, final Promise promise) {
+    promise.resolve(mTurnByTurnEventBuilder.getRemainingSteps((int) offset, (int) limit));
+  }
+
+  @Override
+  public void getStepConversionCacheStats(final Promise promise) {
+    promise.resolve(mStepInfoCache.getStatsMap());
+  }
+
   @Override
   public void setBackgroundLocationUpdatesEnabled(boolean isEnabled) {
     // Background location updates configuration
@@ -438,79 +552,232 @@ public class NavModule extends NativeNavModuleSpec
   }
 
   /**
-   * Registers a number of example event listeners that show an on screen message when certain
-   * navigation events occur (e.g. the driver's route changes or the destination is reached).
+   * Registers the navigator listeners that are missing. The route changed and traffic updated
+   * listeners are always registered, as they keep the native route caches current; the others are
+   * only registered while JS subscribes to their events, see {@link #retainNavigationListener}.
+   * Listeners that are already registered are kept, so this is safe to call on every resume. Must
+   * be called on the UI thread.
    */
   private void registerNavigationListeners() {
     if (mNavigator == null) {
       return;
     }
-    removeNavigationListeners();
 
-    mArrivalListener =
-        new Navigator.ArrivalListener() {
-          @Override
-          public void onArrival(ArrivalEvent arrivalEvent) {
-            WritableMap arrivalEventMap = Arguments.createMap();
-            arrivalEventMap.putMap(
-                "waypoint", ObjectTranslationUtil.getMapFromWaypoint(arrivalEvent.getWaypoint()));
-            arrivalEventMap.putBoolean("isFinalDestination", arrivalEvent.isFinalDestination());
+    if (mRouteChangedListener == null) {
+      mRouteChangedListener =
+          new Navigator.RouteChangedListener() {
+            @Override
+            public void onRouteChanged() {
+              mStepInfoCache.onRouteChanged();
+              mRouteSegmentCache.invalidate();
+              mRouteGeometryLevels.onRouteChanged(mNavigator);
+              mTrafficIndex.onRouteChanged();
+              mRemainingRouteTracker.onRouteChanged();
+              if (hasNavigationListenerSubscribers(EVENT_ROUTE_CHANGED)) {
+                emitOnRouteChanged(getRouteChangedEventMap());
+              }
+            }
+          };
+      mNavigator.addRouteChangedListener(mRouteChangedListener);
+    }
 
-            WritableMap params = Arguments.createMap();
-            params.putMap("arrivalEvent", arrivalEventMap);
+    if (mTrafficUpdatedListener == null) {
+      mTrafficUpdatedListener =
+          new Navigator.TrafficUpdatedListener() {
+            @Override
+            public void onTrafficUpdated() {
+              mRouteSegmentCache.invalidate();
+              if (hasNavigationListenerSubscribers(EVENT_TRAFFIC_UPDATED)) {
+                emitOnTrafficUpdated(mTrafficIndex.onTrafficUpdated(mNavigator));
+              } else {
+                mTrafficIndex.invalidate();
+              }
+            }
+          };
+      mNavigator.addTrafficUpdatedListener(mTrafficUpdatedListener);
+    }
 
-            emitOnArrival(params);
-          }
-        };
-    mNavigator.addArrivalListener(mArrivalListener);
+    updateSubscribedNavigationListeners();
+  }
 
-    mRouteChangedListener =
-        new Navigator.RouteChangedListener() {
-          @Override
-          public void onRouteChanged() {
-            emitOnRouteChanged();
-          }
-        };
-    mNavigator.addRouteChangedListener(mRouteChangedListener);
+  /**
+   * Adds the listeners of subscribed events and removes the others. Must be called on the UI
+   * thread.
+   */
+  private void updateSubscribedNavigationListeners() {
+    if (mNavigator == null) {
+      return;
+    }
 
-    mTrafficUpdatedListener =
-        new Navigator.TrafficUpdatedListener() {
-          @Override
-          public void onTrafficUpdated() {
-            emitOnTrafficUpdated();
-          }
-        };
-    mNavigator.addTrafficUpdatedListener(mTrafficUpdatedListener);
+    boolean arrival = hasNavigationListenerSubscribers(EVENT_ARRIVAL);
+    if (arrival && mArrivalListener == null) {
+      mArrivalListener =
+          new Navigator.ArrivalListener() {
+            @Override
+            public void onArrival(ArrivalEvent arrivalEvent) {
+              WritableMap arrivalEventMap = Arguments.createMap();
+              arrivalEventMap.putMap(
+                  "waypoint",
+                  ObjectTranslationUtil.getMapFromWaypoint(arrivalEvent.getWaypoint()));
+              arrivalEventMap.putBoolean("isFinalDestination", arrivalEvent.isFinalDestination());
 
-    mReroutingListener =
-        new Navigator.ReroutingListener() {
-          @Override
-          public void onReroutingRequestedByOffRoute() {
-            emitOnReroutingRequestedByOffRoute();
+              WritableMap params = Arguments.createMap();
+              params.putMap("arrivalEvent", arrivalEventMap);
+
+              emitOnArrival(params);
+            }
+          };
+      mNavigator.addArrivalListener(mArrivalListener);
+    } else if (!arrival && mArrivalListener != null) {
+      mNavigator.removeArrivalListener(mArrivalListener);
+      mArrivalListener = null;
+    }
+
+    boolean rerouting = hasNavigationListenerSubscribers(EVENT_REROUTING_REQUESTED_BY_OFF_ROUTE);
+    if (rerouting && mReroutingListener == null) {
+      mReroutingListener =
+          new Navigator.ReroutingListener() {
+            @Override
+            public void onReroutingRequestedByOffRoute() {
+              emitOnReroutingRequestedByOffRoute();
+            }
+          };
+      mNavigator.addReroutingListener(mReroutingListener);
+    } else if (!rerouting && mReroutingListener != null) {
+      mNavigator.removeReroutingListener(mReroutingListener);
+      mReroutingListener = null;
+    }
+
+    boolean remainingTimeOrDistance =
+        hasNavigationListenerSubscribers(EVENT_REMAINING_TIME_OR_DISTANCE_CHANGED);
+    if (remainingTimeOrDistance && mRemainingTimeOrDistanceChangedListener == null) {
+      registerRemainingTimeOrDistanceChangedListener();
+    } else if (!remainingTimeOrDistance && mRemainingTimeOrDistanceChangedListener != null) {
+      removeRemainingTimeOrDistanceChangedListener();
+    }
+
+    boolean speeding = hasNavigationListenerSubscribers(EVENT_SPEEDING);
+    if (speeding && !mIsSpeedingListenerRegistered) {
+      mNavigator.setSpeedingListener(mSpeedingMonitor::onSpeedingPercentageChanged);
+      mIsSpeedingListenerRegistered = true;
+    } else if (!speeding && mIsSpeedingListenerRegistered) {
+      mNavigator.setSpeedingListener(null);
+      mSpeedingMonitor.reset();
+      mIsSpeedingListenerRegistered = false;
+    }
+  }
+
+  /** Must be called on the UI thread. */
+  private boolean hasNavigationListenerSubscribers(String eventName) {
+    Integer count = mNavigationListenerSubscribers.get(eventName);
+    return count != null && count > 0;
+  }
+
+  @Override
+  public void retainNavigationListener(String eventName) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          Integer count = mNavigationListenerSubscribers.get(eventName);
+          mNavigationListenerSubscribers.put(eventName, count != null ? count + 1 : 1);
+          updateSubscribedNavigationListeners();
+        });
+  }
+
+  @Override
+  public void releaseNavigationListener(String eventName) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          Integer count = mNavigationListenerSubscribers.get(eventName);
+          if (count == null) {
+            return;
           }
-        };
-    mNavigator.addReroutingListener(mReroutingListener);
+          if (count > 1) {
+            mNavigationListenerSubscribers.put(eventName, count - 1);
+          } else {
+            mNavigationListenerSubscribers.remove(eventName);
+          }
+          updateSubscribedNavigationListeners();
+        });
+  }
+
+  /**
+   * (Re)registers the remaining time or distance listener with the configured thresholds. Must be
+   * called on the UI thread.
+   */
+  private void registerRemainingTimeOrDistanceChangedListener() {
+    if (mNavigator == null) {
+      return;
+    }
+    if (mRemainingTimeOrDistanceChangedListener != null) {
+      mNavigator.removeRemainingTimeOrDistanceChangedListener(
+          mRemainingTimeOrDistanceChangedListener);
+    }
 
     mRemainingTimeOrDistanceChangedListener =
         new Navigator.RemainingTimeOrDistanceChangedListener() {
           @Override
           public void onRemainingTimeOrDistanceChanged() {
-            TimeAndDistance timeAndDistance = mNavigator.getCurrentTimeAndDistance();
-            if (timeAndDistance != null) {
-              WritableMap timeAndDistanceMap = Arguments.createMap();
-              timeAndDistanceMap.putInt("delaySeverity", timeAndDistance.getDelaySeverity());
-              timeAndDistanceMap.putInt("meters", timeAndDistance.getMeters());
-              timeAndDistanceMap.putInt("seconds", timeAndDistance.getSeconds());
-
-              WritableMap params = Arguments.createMap();
-              params.putMap("timeAndDistance", timeAndDistanceMap);
-
-              emitOnRemainingTimeOrDistanceChanged(params);
-            }
+            maybeEmitRemainingTimeOrDistance();
           }
         };
     mNavigator.addRemainingTimeOrDistanceChangedListener(
-        0, 0, mRemainingTimeOrDistanceChangedListener);
+        mRemainingTimeThresholdSeconds,
+        mRemainingDistanceThresholdMeters,
+        mRemainingTimeOrDistanceChangedListener);
+  }
+
+  /**
+   * Emits the remaining time and distance at most once per minimum interval. A change within the
+   * interval is delivered when the interval ends, with the values current at that time. Called on
+   * the UI thread.
+   */
+  private void maybeEmitRemainingTimeOrDistance() {
+    if (mIsRemainingTimeOrDistanceEmitPending) {
+      return;
+    }
+    long waitMs =
+        mLastRemainingTimeOrDistanceEmitTime
+            + mRemainingTimeOrDistanceMinIntervalMs
+            - SystemClock.elapsedRealtime();
+    if (waitMs > 0) {
+      mIsRemainingTimeOrDistanceEmitPending = true;
+      mMainHandler.postDelayed(mPendingRemainingTimeOrDistanceEmit, waitMs);
+      return;
+    }
+    emitRemainingTimeOrDistance();
+  }
+
+  /**
+   * Removes the remaining time or distance listener along with any emit still pending from it.
+   * Must be called on the UI thread.
+   */
+  private void removeRemainingTimeOrDistanceChangedListener() {
+    mNavigator.removeRemainingTimeOrDistanceChangedListener(
+        mRemainingTimeOrDistanceChangedListener);
+    mRemainingTimeOrDistanceChangedListener = null;
+    mMainHandler.removeCallbacks(mPendingRemainingTimeOrDistanceEmit);
+    mIsRemainingTimeOrDistanceEmitPending = false;
+  }
+
+  private void emitRemainingTimeOrDistance() {
+    if (mNavigator == null) {
+      return;
+    }
+    TimeAndDistance timeAndDistance = mNavigator.getCurrentTimeAndDistance();
+    if (timeAndDistance == null) {
+      return;
+    }
+    mLastRemainingTimeOrDistanceEmitTime = SystemClock.elapsedRealtime();
+
+    WritableMap timeAndDistanceMap = Arguments.createMap();
+    timeAndDistanceMap.putInt("delaySeverity", timeAndDistance.getDelaySeverity());
+    timeAndDistanceMap.putInt("meters", timeAndDistance.getMeters());
+    timeAndDistanceMap.putInt("seconds", timeAndDistance.getSeconds());
+
+    WritableMap params = Arguments.createMap();
+    params.putMap("timeAndDistance", timeAndDistanceMap);
+
+    emitOnRemainingTimeOrDistanceChanged(params);
   }
 
   private void removeNavigationListeners() {
@@ -519,69 +786,32 @@ public class NavModule extends NativeNavModuleSpec
     }
     if (mArrivalListener != null) {
       mNavigator.removeArrivalListener(mArrivalListener);
+      mArrivalListener = null;
     }
     if (mRouteChangedListener != null) {
       mNavigator.removeRouteChangedListener(mRouteChangedListener);
+      mRouteChangedListener = null;
     }
     if (mTrafficUpdatedListener != null) {
       mNavigator.removeTrafficUpdatedListener(mTrafficUpdatedListener);
+      mTrafficUpdatedListener = null;
     }
     if (mReroutingListener != null) {
       mNavigator.removeReroutingListener(mReroutingListener);
+      mReroutingListener = null;
     }
     if (mRemainingTimeOrDistanceChangedListener != null) {
-      mNavigator.removeRemainingTimeOrDistanceChangedListener(
-          mRemainingTimeOrDistanceChangedListener);
+      removeRemainingTimeOrDistanceChangedListener();
     }
-  }
-
-  private void removeNavInfoObserver() {
-    if (mNavInfoObserver != null) {
-      NavInfoReceivingService.getNavInfoLiveData().removeObserver(mNavInfoObserver);
-      mNavInfoObserver = null;
+    if (mIsSpeedingListenerRegistered) {
+      mNavigator.setSpeedingListener(null);
+      mSpeedingMonitor.reset();
+      mIsSpeedingListenerRegistered = false;
     }
   }
 
-  private void createWaypoint(Map map) {
-    String placeId = CollectionUtil.getString("placeId", map);
-    String title = CollectionUtil.getString("title", map);
-
-    Double lat = null;
-    Double lng = null;
-
-    if (map.containsKey("position")) {
-      Map latlng = (Map) map.get("position");
-      if (latlng.get(Constants.LAT_FIELD_KEY) != null)
-        lat = Double.parseDouble(latlng.get(Constants.LAT_FIELD_KEY).toString());
-      if (latlng.get(Constants.LNG_FIELD_KEY) != null)
-        lng = Double.parseDouble(latlng.get(Constants.LNG_FIELD_KEY).toString());
-    }
-
-    boolean vehicleStopover = CollectionUtil.getBool("vehicleStopover", map, false);
-    boolean preferSameSideOfRoad = CollectionUtil.getBool("preferSameSideOfRoad", map, false);
-
-    try {
-      Waypoint.Builder waypointBuilder =
-          Waypoint.builder()
-              .setTitle(title)
-              .setVehicleStopover(vehicleStopover)
-              .setPreferSameSideOfRoad(preferSameSideOfRoad);
-
-      if (map.containsKey("preferredHeading")) {
-        int preferredHeading = (int) map.get("preferredHeading");
-        waypointBuilder.setPreferredHeading(preferredHeading);
-      }
-
-      if (placeId == null || placeId.isEmpty() && lat != null && lng != null) {
-        mWaypoints.add(waypointBuilder.setLatLng(lat, lng).build());
-      } else {
-        mWaypoints.add(waypointBuilder.setPlaceIdString(placeId).build());
-      }
-    } catch (Waypoint.UnsupportedPlaceIdException e) {
-      logDebugInfo("Error starting navigation: Place ID is not supported: " + placeId);
-    } catch (Waypoint.InvalidSegmentHeadingException e) {
-      logDebugInfo("Error starting navigation: Preferred heading has to be between 0 and 360");
-    }
+  private void removeNavInfoListener() {
+    NavInfoReceivingService.setNavInfoListener(null);
   }
 
   @Override
@@ -595,13 +825,21 @@ public class NavModule extends NativeNavModuleSpec
       return;
     }
 
-    pendingRoute = null; // reset pendingRoute.
-    mWaypoints.clear(); // reset waypoints
-
-    // Set up a waypoint for each place that we want to go to.
+    // Validate all waypoints before touching the current destinations, so that a single call
+    // reports every invalid waypoint.
+    ArrayList<Waypoint> parsedWaypoints = new ArrayList<>(waypoints.size());
+    StringBuilder errors = null;
     for (int i = 0; i < waypoints.size(); i++) {
-      Map map = waypoints.getMap(i).toHashMap();
-      createWaypoint(map);
+      try {
+        parsedWaypoints.add(ObjectTranslationUtil.getWaypointFromMap(waypoints.getMap(i)));
+      } catch (IllegalArgumentException e) {
+        errors = errors == null ? new StringBuilder("Invalid waypoints: ") : errors.append("; ");
+        errors.append("index ").append(i).append(": ").append(e.getMessage());
+      }
+    }
+    if (errors != null) {
+      promise.reject(JsErrors.INVALID_OPTIONS_ERROR_CODE, errors.toString());
+      return;
     }
 
     // Check valid flag for codegen nullable objects pattern
@@ -619,14 +857,18 @@ public class NavModule extends NativeNavModuleSpec
             && routingOptions.getBoolean("valid");
 
     // Get display options if provided
-    DisplayOptions parsedDisplayOptions =
+    final DisplayOptions parsedDisplayOptions =
         hasValidDisplayOptions
             ? ObjectTranslationUtil.getDisplayOptionsFromMap(displayOptions.toHashMap())
             : null;
 
+    // Each request keeps its own waypoints, so a debounced start does not see later changes.
+    final Navigator navigator = mNavigator;
+    RouteRequestScheduler.RouteRequest request;
+    String routeOptions = RouteMetrics.OPTIONS_DEFAULT;
     // If route token options are provided, use CustomRoutesOptions
     if (hasValidRouteTokenOptions) {
-      CustomRoutesOptions customRoutesOptions;
+      final CustomRoutesOptions customRoutesOptions;
       try {
         customRoutesOptions =
             ObjectTranslationUtil.getCustomRoutesOptionsFromMap(routeTokenOptions.toHashMap());
@@ -635,41 +877,63 @@ public class NavModule extends NativeNavModuleSpec
         return;
       }
 
+      routeOptions = RouteMetrics.OPTIONS_ROUTE_TOKEN;
       if (parsedDisplayOptions != null) {
-        pendingRoute =
-            mNavigator.setDestinations(mWaypoints, customRoutesOptions, parsedDisplayOptions);
+        request =
+            () ->
+                navigator.setDestinations(
+                    parsedWaypoints, customRoutesOptions, parsedDisplayOptions);
       } else {
-        pendingRoute = mNavigator.setDestinations(mWaypoints, customRoutesOptions);
+        request = () -> navigator.setDestinations(parsedWaypoints, customRoutesOptions);
       }
     } else if (hasValidRoutingOptions) {
-      RoutingOptions parsedRoutingOptions =
+      final RoutingOptions parsedRoutingOptions =
           ObjectTranslationUtil.getRoutingOptionsFromMap(routingOptions.toHashMap());
 
+      routeOptions = RouteMetrics.OPTIONS_ROUTING;
       if (parsedDisplayOptions != null) {
-        pendingRoute =
-            mNavigator.setDestinations(mWaypoints, parsedRoutingOptions, parsedDisplayOptions);
+        request =
+            () ->
+                navigator.setDestinations(
+                    parsedWaypoints, parsedRoutingOptions, parsedDisplayOptions);
       } else {
-        pendingRoute = mNavigator.setDestinations(mWaypoints, parsedRoutingOptions);
+        request = () -> navigator.setDestinations(parsedWaypoints, parsedRoutingOptions);
       }
     } else if (parsedDisplayOptions != null) {
       // No routing options provided: use defaults, but still honor display options if supplied.
-      pendingRoute =
-          mNavigator.setDestinations(mWaypoints, new RoutingOptions(), parsedDisplayOptions);
+      request =
+          () ->
+              navigator.setDestinations(
+                  parsedWaypoints, new RoutingOptions(), parsedDisplayOptions);
     } else {
-      pendingRoute = mNavigator.setDestinations(mWaypoints);
+      request = () -> navigator.setDestinations(parsedWaypoints);
     }
 
-    if (pendingRoute != null) {
-      // Set an action to perform when a route is determined to the destination
-      pendingRoute.setOnResultListener(
-          code -> {
-            // Convert RouteStatus to string matching codegen RouteStatusSpec
-            promise.resolve(EnumTranslationUtil.getRouteStatusStringValue(code));
-          });
-    } else {
-      // If no pending route, resolve with OK status
-      promise.resolve(EnumTranslationUtil.getRouteStatusStringValue(Navigator.RouteStatus.OK));
-    }
+    // Supersedes the previous request, which resolves with SUPERSEDED. The waypoints only count as
+    // destinations once the request starts.
+    mRouteRequestScheduler.submit(request, promise, parsedWaypoints.size(), routeOptions);
+  }
+
+  @Override
+  public void setRouteRequestOptions(ReadableMap options) {
+    mRouteRequestScheduler.setDebounceMs(
+        options.hasKey("debounceMs") ? (long) options.getDouble("debounceMs") : 0);
+  }
+
+  @Override
+  public void getRouteMetrics(final Promise promise) {
+    promise.resolve(mRouteMetrics.toMap());
+  }
+
+  @Override
+  public void resetRouteMetrics(final Promise promise) {
+    mRouteMetrics.reset();
+    promise.resolve(null);
+  }
+
+  @Override
+  public void setRouteMetricsEventEnabled(boolean enabled) {
+    mRouteMetrics.setListener(enabled ? this::emitOnRouteRequestCompleted : null);
   }
 
   @Override
@@ -677,8 +941,9 @@ public class NavModule extends NativeNavModuleSpec
     if (!ensureNavigatorAvailable(promise)) {
       return;
     }
-    mWaypoints.clear(); // reset waypoints
+    mRouteRequestScheduler.cancel();
     mNavigator.clearDestinations();
+    mTraveledPathEpoch.incrementAndGet();
     promise.resolve(true);
   }
 
@@ -702,12 +967,13 @@ public class NavModule extends NativeNavModuleSpec
     if (!ensureNavigatorAvailable(promise)) {
       return;
     }
-    if (mWaypoints.isEmpty()) {
+    if (!mRouteRequestScheduler.hasDestinations()) {
       promise.reject(JsErrors.NO_DESTINATIONS_ERROR_CODE, JsErrors.NO_DESTINATIONS_ERROR_MESSAGE);
       return;
     }
 
     mNavigator.startGuidance();
+    mTraveledPathEpoch.incrementAndGet();
     emitOnStartGuidance();
     promise.resolve(true);
   }
@@ -728,7 +994,7 @@ public class NavModule extends NativeNavModuleSpec
     if (mNavigator == null) {
       return;
     }
-    if (mWaypoints.isEmpty()) {
+    if (!mRouteRequestScheduler.hasDestinations()) {
       return;
     }
 
@@ -745,6 +1011,7 @@ public class NavModule extends NativeNavModuleSpec
       promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
       return;
     }
+    mTraceReplay.stop();
     mNavigator.getSimulator().unsetUserLocation();
     promise.resolve(null);
   }
@@ -769,6 +1036,84 @@ public class NavModule extends NativeNavModuleSpec
     promise.resolve(null);
   }
 
+  @Override
+  public void startTraceReplay(ReadableMap source, ReadableMap options, final Promise promise) {
+    if (!ensureNavigatorAvailable(promise)) {
+      return;
+    }
+    int sourceCount =
+        (source.hasKey("path") ? 1 : 0)
+            + (source.hasKey("gpx") ? 1 : 0)
+            + (source.hasKey("base64") ? 1 : 0);
+    if (sourceCount != 1) {
+      promise.reject(
+          JsErrors.INVALID_OPTIONS_ERROR_CODE, "Exactly one of path, gpx or base64 is required");
+      return;
+    }
+    final TraceReplaySimulator.TraceSource traceSource;
+    if (source.hasKey("path")) {
+      final String path = source.getString("path");
+      traceSource = () -> new FileInputStream(path);
+    } else if (source.hasKey("gpx")) {
+      final String gpx = source.getString("gpx");
+      traceSource = () -> new ByteArrayInputStream(gpx.getBytes(StandardCharsets.UTF_8));
+    } else {
+      final String base64 = source.getString("base64");
+      // Decoded on the replay thread, as traces can be large.
+      traceSource = () -> new ByteArrayInputStream(Base64.decode(base64, Base64.DEFAULT));
+    }
+
+    TraceReplaySimulator.Options replayOptions = new TraceReplaySimulator.Options();
+    if (options.hasKey("speedMultiplier")) {
+      replayOptions.speedMultiplier = options.getDouble("speedMultiplier");
+      if (replayOptions.speedMultiplier <= 0) {
+        promise.reject(
+            JsErrors.INVALID_OPTIONS_ERROR_CODE, "speedMultiplier must be greater than 0");
+        return;
+      }
+    }
+    replayOptions.loop = options.hasKey("loop") && options.getBoolean("loop");
+    replayOptions.positionJitterMeters =
+        options.hasKey("positionJitterMeters")
+            ? Math.max(0, options.getDouble("positionJitterMeters"))
+            : 0;
+    replayOptions.timingJitterMs =
+        options.hasKey("timingJitterMs")
+            ? Math.max(0, (long) options.getDouble("timingJitterMs"))
+            : 0;
+    replayOptions.seed = options.hasKey("seed") ? (long) options.getDouble("seed") : null;
+    if (options.hasKey("defaultIntervalMs")) {
+      replayOptions.defaultIntervalMs = Math.max(1, (long) options.getDouble("defaultIntervalMs"));
+    }
+    replayOptions.maxGapMs =
+        options.hasKey("maxGapMs") ? Math.max(0, (long) options.getDouble("maxGapMs")) : 0;
+
+    mTraceReplay.start(traceSource, replayOptions, promise);
+  }
+
+  @Override
+  public void pauseTraceReplay(final Promise promise) {
+    mTraceReplay.pause();
+    promise.resolve(null);
+  }
+
+  @Override
+  public void resumeTraceReplay(final Promise promise) {
+    mTraceReplay.resume();
+    promise.resolve(null);
+  }
+
+  @Override
+  public void stopTraceReplay(final Promise promise) {
+    mTraceReplay.stop();
+    promise.resolve(null);
+  }
+
+  @Override
+  public void getTraceReplayState(final Promise promise) {
+    promise.resolve(mTraceReplay.getStateMap());
+  }
+
   @Override
   public void setAbnormalTerminatingReportingEnabled(boolean enabled) {
     NavigationApi.setAbnormalTerminationReportingEnabled(enabled);
@@ -811,6 +1156,18 @@ public class NavModule extends NativeNavModuleSpec
     promise.resolve(null);
   }
 
+  @Override
+  public void setSpeedingEventOptions(ReadableMap options) {
+    mSpeedingMonitor.setDowngradeDelayMs(
+        options.hasKey("downgradeDelayMs")
+            ? (long) options.getDouble("downgradeDelayMs")
+            : SpeedingMonitor.DEFAULT_DOWNGRADE_DELAY_MS);
+    mSpeedingMonitor.setEndDelayMs(
+        options.hasKey("endDelayMs")
+            ? (long) options.getDouble("endDelayMs")
+            : SpeedingMonitor.DEFAULT_END_DELAY_MS);
+  }
+
   @Override
   public void setAudioGuidanceType(double index, final Promise promise) {
     int jsValue = (int) index;
@@ -848,7 +1205,7 @@ public class NavModule extends NativeNavModuleSpec
   }
 
   @Override
-  public void getCurrentRouteSegment(final Promise promise) {
+  public void getCurrentRouteSegment(double encoding, final Promise promise) {
     if (mNavigator == null) {
       promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
       return;
@@ -861,24 +1218,162 @@ public class NavModule extends NativeNavModuleSpec
       return;
     }
 
-    promise.resolve(ObjectTranslationUtil.getMapFromRouteSegment(routeSegment));
+    promise.resolve(ObjectTranslationUtil.getMapFromRouteSegment(routeSegment, (int) encoding));
   }
 
   @Override
-  public void getRouteSegments(final Promise promise) {
+  public void getRouteSegments(double encoding, final Promise promise) {
     if (mNavigator == null) {
       promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
       return;
     }
 
-    List<RouteSegment> routeSegmentList = mNavigator.getRouteSegments();
-    WritableArray arr = Arguments.createArray();
+    promise.resolve(mRouteSegmentCache.getSegmentsArray(mNavigator, (int) encoding));
+  }
 
-    for (RouteSegment segment : routeSegmentList) {
-      arr.pushMap(ObjectTranslationUtil.getMapFromRouteSegment(segment));
+  @Override
+  public void getRouteSegmentsIfChanged(
+      double knownGeneration, double encoding, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
     }
 
-    promise.resolve(arr);
+    promise.resolve(
+        mRouteSegmentCache.getSnapshotMap(mNavigator, (int) knownGeneration, (int) encoding));
+  }
+
+  @Override
+  public void setRouteChangedEventOptions(ReadableMap options) {
+    if (!options.hasKey("includeRoute") || !options.getBoolean("includeRoute")) {
+      mRouteChangedEventEncoding = -1;
+      return;
+    }
+    mRouteChangedEventEncoding =
+        options.hasKey("encoding")
+            ? (int) options.getDouble("encoding")
+            : ObjectTranslationUtil.GEOMETRY_ENCODING_ENCODED_POLYLINE;
+  }
+
+  @Override
+  public void setRemainingTimeOrDistanceChangedOptions(ReadableMap options) {
+    mRemainingTimeThresholdSeconds =
+        options.hasKey("timeThresholdSeconds")
+            ? Math.max(0, (int) options.getDouble("timeThresholdSeconds"))
+            : 0;
+    mRemainingDistanceThresholdMeters =
+        options.hasKey("distanceThresholdMeters")
+            ? Math.max(0, (int) options.getDouble("distanceThresholdMeters"))
+            : 0;
+    mRemainingTimeOrDistanceMinIntervalMs =
+        options.hasKey("minUpdateIntervalMs")
+            ? Math.max(0, (long) options.getDouble("minUpdateIntervalMs"))
+            : 0;
+    // The navigator only takes the thresholds when the listener is added.
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mRemainingTimeOrDistanceChangedListener != null) {
+            registerRemainingTimeOrDistanceChangedListener();
+          }
+        });
+  }
+
+  /**
+   * Builds the {@code onRouteChanged} payload. The segments are converted through the route segment
+   * cache, so a {@code getRouteSegments} call for the same route does not convert them again.
+   */
+  private WritableMap getRouteChangedEventMap() {
+    WritableMap map = Arguments.createMap();
+    map.putInt("generation", mRouteSegmentCache.getGeneration());
+    int encoding = mRouteChangedEventEncoding;
+    if (encoding >= 0 && mNavigator != null) {
+      map.putArray("segments", mRouteSegmentCache.getSegmentsArray(mNavigator, encoding));
+    }
+    return map;
+  }
+
+  @Override
+  public void getRouteGeometry(ReadableMap options, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    double toleranceMeters = 0;
+    if (options.hasKey("toleranceMeters")) {
+      toleranceMeters = options.getDouble("toleranceMeters");
+    } else if (options.hasKey("zoomLevel")) {
+      toleranceMeters =
+          mRouteGeometryLevels.getToleranceForZoom(mNavigator, options.getDouble("zoomLevel"));
+    }
+    int encoding = options.hasKey("encoding") ? (int) options.getDouble("encoding") : 0;
+
+    RouteGeometryLevels.Geometry geometry =
+        mRouteGeometryLevels.getGeometry(mNavigator, toleranceMeters);
+    List<LatLng> points = geometry.points;
+
+    WritableMap map = Arguments.createMap();
+    map.putInt("generation", geometry.generation);
+    map.putDouble("toleranceMeters", geometry.toleranceMeters);
+    map.putInt("originalPointCount", geometry.originalPointCount);
+    map.putInt("pointCount", points.size());
+    ObjectTranslationUtil.putPoints(map, points, encoding);
+    promise.resolve(map);
+  }
+
+  @Override
+  public void getRemainingRoute(double encoding, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    List<LatLng> points = mRemainingRouteTracker.getRemainingPoints();
+    WritableMap map = Arguments.createMap();
+    map.putBoolean("tracking", mRemainingRouteTracker.isTracking());
+    map.putDouble("distanceAlongRouteMeters", mRemainingRouteTracker.getDistanceAlongRouteMeters());
+    map.putDouble("remainingDistanceMeters", mRemainingRouteTracker.getRemainingDistanceMeters());
+    ObjectTranslationUtil.putPoints(map, points, (int) encoding);
+    promise.resolve(map);
+  }
+
+  @Override
+  public void setRemainingRouteTrackingEnabled(boolean enabled) {
+    mRemainingRouteTracker.setEnabled(enabled);
+    UiThreadUtil.runOnUiThread(this::updateLocationListener);
+  }
+
+  public RemainingRouteTracker getRemainingRouteTracker() {
+    return mRemainingRouteTracker;
+  }
+
+  /**
+   * Sets the listener of the remaining route, which keeps it tracked while set. Must be called on
+   * the UI thread.
+   */
+  public void setRemainingRouteListener(@Nullable RemainingRouteTracker.Listener listener) {
+    mRemainingRouteTracker.setListener(listener);
+    updateLocationListener();
+  }
+
+  @Override
+  public void getTrafficAt(double offsetMeters, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    promise.resolve(mTrafficIndex.getTrafficAt(mNavigator, offsetMeters));
+  }
+
+  @Override
+  public void getTrafficRange(double fromMeters, double toMeters, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    promise.resolve(mTrafficIndex.getTrafficRange(mNavigator, fromMeters, toMeters));
   }
 
   @Override
@@ -897,6 +1392,39 @@ public class NavModule extends NativeNavModuleSpec
     promise.resolve(arr);
   }
 
+  @Override
+  public void getTraveledPathSince(
+      double cursor, double epoch, double encoding, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    List<LatLng> traveledRoute = mNavigator.getTraveledRoute();
+    int size = traveledRoute.size();
+    int currentEpoch = mTraveledPathEpoch.get();
+    int from = (int) cursor;
+    // The traveled route restarts with a new guidance session, which bumps the epoch; start over
+    // from its beginning.
+    boolean reset = (int) epoch != currentEpoch || from < 0 || from > size;
+    if (reset) {
+      from = 0;
+    }
+
+    WritableMap map = Arguments.createMap();
+    map.putInt("cursor", size);
+    map.putInt("epoch", currentEpoch);
+    map.putBoolean("reset", reset);
+    if ((int) encoding == ObjectTranslationUtil.GEOMETRY_ENCODING_PACKED) {
+      map.putArray(
+          "packedPoints",
+          ObjectTranslationUtil.getPackedArrayFromLatLngs(traveledRoute, from, size));
+    } else {
+      map.putArray("points", ObjectTranslationUtil.getArrayFromLatLngs(traveledRoute, from, size));
+    }
+    promise.resolve(map);
+  }
+
   private boolean ensureNavigatorAvailable(final Promise promise) {
     if (mNavigator == null) {
       promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
@@ -955,12 +1483,15 @@ public class NavModule extends NativeNavModuleSpec
   }
 
   @Override
-  public void startUpdatingLocation(final Promise promise) {
+  public void startUpdatingLocation(@Nullable ReadableMap streamingOptions, final Promise promise) {
     mIsListeningRoadSnappedLocation = true;
+    final LocationStreamBatcher.Options options =
+        LocationStreamBatcher.Options.fromMap(streamingOptions);
     // Register listener on UI thread to serialize with callback dispatch and allow
     // safe remove-and-recreate.
     UiThreadUtil.runOnUiThread(
         () -> {
+          setLocationStreamingOptions(options);
           registerLocationListener();
           promise.resolve(null);
         });
@@ -973,11 +1504,193 @@ public class NavModule extends NativeNavModuleSpec
     // This avoids the race condition in the Navigation SDK.
     UiThreadUtil.runOnUiThread(
         () -> {
-          removeLocationListener();
+          // Deliver fixes still waiting in a batch before stopping.
+          setLocationStreamingOptions(null);
+          updateLocationListener();
           promise.resolve(null);
         });
   }
 
+  /**
+   * Switches between per-fix location events and batched {@code onLocationBatch} events. Must be
+   * called on the UI thread.
+   */
+  private void setLocationStreamingOptions(@Nullable LocationStreamBatcher.Options options) {
+    if (mLocationStreamBatcher != null) {
+      mLocationStreamBatcher.flush();
+      mLocationStreamBatcher.release();
+      mLocationStreamBatcher = null;
+    }
+    if (options != null) {
+      final boolean packed = options.packed;
+      mLocationStreamBatcher =
+          new LocationStreamBatcher(
+              options,
+              (locations, rawLocations) -> emitLocationBatch(locations, rawLocations, packed));
+    }
+  }
+
+  private void emitLocationBatch(
+      List<Location> locations, List<Location> rawLocations, boolean packed) {
+    WritableMap params = Arguments.createMap();
+    if (packed) {
+      params.putMap(
+          "packedLocations", ObjectTranslationUtil.getPackedMapFromLocations(locations));
+      params.putMap(
+          "packedRawLocations", ObjectTranslationUtil.getPackedMapFromLocations(rawLocations));
+    } else {
+      params.putArray("locations", ObjectTranslationUtil.getArrayFromLocations(locations));
+      params.putArray("rawLocations", ObjectTranslationUtil.getArrayFromLocations(rawLocations));
+    }
+    emitOnLocationBatch(params);
+  }
+
+  @Override
+  public void getLocationHistory(double cursor, double maxCount, final Promise promise) {
+    long since = (long) cursor;
+    long until = LocationHistoryBuffer.getLastSequence();
+    // With a limit, both streams stop where the first one is cut off, so the returned cursor does
+    // not skip fixes of either stream.
+    if (maxCount > 0) {
+      until = mLocationHistory.getCutoffSequence(since, until, (int) maxCount);
+      until = mRawLocationHistory.getCutoffSequence(since, until, (int) maxCount);
+    }
+
+    WritableMap map = Arguments.createMap();
+    map.putMap("locations", mLocationHistory.getPackedMapBetween(since, until));
+    map.putMap("rawLocations", mRawLocationHistory.getPackedMapBetween(since, until));
+    map.putDouble("cursor", Math.max(since, until));
+    promise.resolve(map);
+  }
+
+  @Override
+  public void getLocationHistoryStats(final Promise promise) {
+    WritableMap map = Arguments.createMap();
+    map.putMap("locations", mLocationHistory.getStatsMap());
+    map.putMap("rawLocations", mRawLocationHistory.getStatsMap());
+    promise.resolve(map);
+  }
+
+  @Override
+  public void addGeofences(ReadableArray geofences, final Promise promise) {
+    // Validate all geofences before adding any, so that a single call reports every invalid one.
+    ArrayList<GeofenceManager.Geofence> parsed = new ArrayList<>(geofences.size());
+    StringBuilder errors = null;
+    for (int i = 0; i < geofences.size(); i++) {
+      try {
+        parsed.add(GeofenceManager.Geofence.fromMap(geofences.getMap(i)));
+      } catch (IllegalArgumentException e) {
+        errors = errors == null ? new StringBuilder("Invalid geofences: ") : errors.append("; ");
+        errors.append("index ").append(i).append(": ").append(e.getMessage());
+      }
+    }
+    if (errors != null) {
+      promise.reject(JsErrors.INVALID_OPTIONS_ERROR_CODE, errors.toString());
+      return;
+    }
+    mGeofenceManager.addGeofences(parsed);
+    UiThreadUtil.runOnUiThread(this::updateLocationListener);
+    promise.resolve(null);
+  }
+
+  @Override
+  public void removeGeofences(ReadableArray ids, final Promise promise) {
+    ArrayList<String> idList = new ArrayList<>();
+    for (int i = 0; i < ids.size(); i++) {
+      idList.add(ids.getString(i));
+    }
+    mGeofenceManager.removeGeofences(idList);
+    UiThreadUtil.runOnUiThread(this::updateLocationListener);
+    promise.resolve(null);
+  }
+
+  @Override
+  public void clearGeofences(final Promise promise) {
+    mGeofenceManager.clearGeofences();
+    UiThreadUtil.runOnUiThread(this::updateLocationListener);
+    promise.resolve(null);
+  }
+
+  private void emitGeofenceEvent(int transition, String geofenceId, Location location) {
+    WritableMap params = Arguments.createMap();
+    params.putString("geofenceId", geofenceId);
+    params.putMap("location", ObjectTranslationUtil.getMapFromLocation(location));
+    switch (transition) {
+      case GeofenceManager.TRANSITION_ENTER:
+        emitOnGeofenceEnter(params);
+        break;
+      case GeofenceManager.TRANSITION_EXIT:
+        emitOnGeofenceExit(params);
+        break;
+      case GeofenceManager.TRANSITION_DWELL:
+        emitOnGeofenceDwell(params);
+        break;
+    }
+  }
+
+  @Override
+  public void getTripStatistics(final Promise promise) {
+    promise.resolve(mTripStatistics.toMap());
+  }
+
+  @Override
+  public void resetTripStatistics(final Promise promise) {
+    mTripStatistics.reset();
+    promise.resolve(null);
+  }
+
+  @Override
+  public void setTripStatisticsUpdateInterval(double intervalMs) {
+    mTripStatisticsUpdateIntervalMs = Math.max(0, (long) intervalMs);
+    UiThreadUtil.runOnUiThread(this::updateLocationListener);
+  }
+
+  @Override
+  public void setTripProgressUpdateInterval(double intervalMs) {
+    mTripProgress.setInterval((long) intervalMs);
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          updateNavForwarding();
+          updateLocationListener();
+        });
+  }
+
+  /** Emits the trip statistics at most once per update interval. Called on the UI thread. */
+  private void maybeEmitTripStatistics(long time) {
+    long intervalMs = mTripStatisticsUpdateIntervalMs;
+    if (intervalMs <= 0 || Math.abs(time - mLastTripStatisticsUpdateTime) < intervalMs) {
+      return;
+    }
+    mLastTripStatisticsUpdateTime = time;
+    WritableMap params = Arguments.createMap();
+    params.putMap("tripStatistics", mTripStatistics.toMap());
+    emitOnTripStatisticsUpdated(params);
+  }
+
+  /**
+   * Attaches the location listener while JS listens to locations or a native consumer needs them,
+   * and detaches it otherwise. Must be called on the UI thread.
+   */
+  private void updateLocationListener() {
+    boolean needed = mIsListeningRoadSnappedLocation || hasNativeLocationConsumers();
+    if (needed && mLocationListener == null) {
+      registerLocationListener();
+    } else if (!needed && mLocationListener != null) {
+      removeLocationListener();
+    }
+  }
+
+  /**
+   * Whether geofences, trip statistics events, trip progress or remaining route tracking need
+   * road-snapped locations.
+   */
+  private boolean hasNativeLocationConsumers() {
+    return !mGeofenceManager.isEmpty()
+        || mTripStatisticsUpdateIntervalMs > 0
+        || mTripProgress.isEnabled()
+        || mRemainingRouteTracker.isActive();
+  }
+
   private void registerLocationListener() {
     // Remove existing listener first, then recreate. This is safe when called
     // from UI thread as it serializes with callback dispatch.
@@ -988,7 +1701,20 @@ public class NavModule extends NativeNavModuleSpec
           new LocationListener() {
             @Override
             public void onLocationChanged(final Location location) {
-              if (mIsListeningRoadSnappedLocation) {
+              mLocationHistory.record(location);
+              mGeofenceManager.onLocation(location);
+              mTripStatistics.onLocation(location);
+              maybeEmitTripStatistics(location.getTime());
+              mTripProgress.onLocation(location);
+              if (mNavigator != null && mRemainingRouteTracker.isActive()) {
+                mRemainingRouteTracker.onLocation(mNavigator, location);
+              }
+              if (!mIsListeningRoadSnappedLocation) {
+                return;
+              }
+              if (mLocationStreamBatcher != null) {
+                mLocationStreamBatcher.onLocation(location);
+              } else {
                 WritableMap params = Arguments.createMap();
                 params.putMap("location", ObjectTranslationUtil.getMapFromLocation(location));
                 emitOnLocationChanged(params);
@@ -997,7 +1723,13 @@ public class NavModule extends NativeNavModuleSpec
 
             @Override
             public void onRawLocationUpdate(final Location location) {
-              if (mIsListeningRoadSnappedLocation) {
+              mRawLocationHistory.record(location);
+              if (!mIsListeningRoadSnappedLocation) {
+                return;
+              }
+              if (mLocationStreamBatcher != null) {
+                mLocationStreamBatcher.onRawLocation(location);
+              } else {
                 WritableMap params = Arguments.createMap();
                 params.putMap("location", ObjectTranslationUtil.getMapFromLocation(location));
                 emitOnRawLocationChanged(params);
@@ -1021,32 +1753,11 @@ public class NavModule extends NativeNavModuleSpec
     if (navInfo == null || reactContext == null) {
       return;
     }
-    WritableMap map = Arguments.createMap();
-
-    map.putInt("navState", navInfo.getNavState());
-    map.putBoolean("routeChanged", navInfo.getRouteChanged());
-    if (navInfo.getDistanceToCurrentStepMeters() != null)
-      map.putInt("distanceToCurrentStepMeters", navInfo.getDistanceToCurrentStepMeters());
-    if (navInfo.getDistanceToFinalDestinationMeters() != null)
-      map.putInt("distanceToFinalDestinationMeters", navInfo.getDistanceToFinalDestinationMeters());
-    if (navInfo.getDistanceToNextDestinationMeters() != null)
-      map.putInt("distanceToNextDestinationMeters", navInfo.getDistanceToNextDestinationMeters());
-    if (navInfo.getTimeToCurrentStepSeconds() != null)
-      map.putInt("timeToCurrentStepSeconds", navInfo.getTimeToCurrentStepSeconds());
-    if (navInfo.getTimeToFinalDestinationSeconds() != null)
-      map.putInt("timeToFinalDestinationSeconds", navInfo.getTimeToFinalDestinationSeconds());
-    if (navInfo.getTimeToNextDestinationSeconds() != null)
-      map.putInt("timeToNextDestinationSeconds", navInfo.getTimeToNextDestinationSeconds());
-    if (navInfo.getCurrentStep() != null)
-      map.putMap("currentStep", ObjectTranslationUtil.getMapFromStepInfo(navInfo.getCurrentStep()));
-
-    WritableArray remainingSteps = Arguments.createArray();
-    if (navInfo.getRemainingSteps() != null) {
-      for (StepInfo info : navInfo.getRemainingSteps()) {
-        remainingSteps.pushMap(ObjectTranslationUtil.getMapFromStepInfo(info));
-      }
+    mTripProgress.onNavInfo(navInfo);
+    if (!mTurnByTurnEventsEnabled) {
+      return;
     }
-    map.putArray("getRemainingSteps", remainingSteps);
+    WritableMap map = mTurnByTurnEventBuilder.build(navInfo);
 
     WritableArray turnByTurnEvents = Arguments.createArray();
     turnByTurnEvents.pushMap(map);
@@ -1078,10 +1789,11 @@ public class NavModule extends NativeNavModuleSpec
       listener.onModuleReady();
     }
 
-    // Re-register listeners on resume.
+    // Add any listeners that are missing on resume. Registered ones are kept, so an ongoing
+    // speeding episode is not dropped.
     if (mNavigator != null) {
       registerNavigationListeners();
-      if (mIsListeningRoadSnappedLocation) {
+      if (mIsListeningRoadSnappedLocation || hasNativeLocationConsumers()) {
         registerLocationListener();
       }
     }
@@ -1092,6 +1804,6 @@ public class NavModule extends NativeNavModuleSpec
 
   @Override
   public void onHostDestroy() {
-    UiThreadUtil.runOnUiThread(this::removeNavInfoObserver);
+    removeNavInfoListener();
   }
 }
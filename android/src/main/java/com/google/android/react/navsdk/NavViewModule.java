@@ -30,6 +30,9 @@ import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.Polyline;
 import com.google.maps.android.rn.navsdk.NativeNavViewModuleSpec;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -42,6 +45,8 @@ public class NavViewModule extends NativeNavViewModuleSpec {
   private static final String TAG = "NavViewModule";
 
   private NavViewManager mNavViewManager;
+  // Polylines that follow the remaining route, keyed by map view nativeID. UI thread only.
+  private final Map<String, String> mRemainingRoutePolylines = new HashMap<>();
 
   public NavViewModule(ReactApplicationContext reactContext, NavViewManager navViewManager) {
     super(reactContext);
@@ -325,6 +330,66 @@ public class NavViewModule extends NativeNavViewModuleSpec {
         });
   }
 
+  @Override
+  public void setRemainingRoutePolyline(String nativeID, String polylineId, final Promise promise) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
+          if (fragment == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          // The remaining route is tracked by the navigation module, which map-only screens may
+          // never initialize.
+          if (!NavModule.isInstanceReady()) {
+            promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+            return;
+          }
+
+          mRemainingRoutePolylines.put(nativeID, polylineId);
+          NavModule navModule = NavModule.getInstance();
+          navModule.setRemainingRouteListener(this::updateRemainingRoutePolylines);
+          updateRemainingRoutePolylines(navModule.getRemainingRouteTracker());
+          promise.resolve(true);
+        });
+  }
+
+  @Override
+  public void clearRemainingRoutePolyline(String nativeID, final Promise promise) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          mRemainingRoutePolylines.remove(nativeID);
+          if (mRemainingRoutePolylines.isEmpty() && NavModule.isInstanceReady()) {
+            NavModule.getInstance().setRemainingRouteListener(null);
+          }
+          promise.resolve(true);
+        });
+  }
+
+  /**
+   * Moves the polylines that follow the remaining route. Called on the UI thread as the projection
+   * moves, throttled by the tracker, so the overlays follow the route without any JS involvement.
+   */
+  private void updateRemainingRoutePolylines(RemainingRouteTracker tracker) {
+    if (mRemainingRoutePolylines.isEmpty()) {
+      return;
+    }
+    List<LatLng> points = tracker.getRemainingPoints();
+    Iterator<Map.Entry<String, String>> it = mRemainingRoutePolylines.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<String, String> entry = it.next();
+      IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(entry.getKey());
+      // Stop following once the map view or the polyline is gone.
+      if (fragment == null
+          || !fragment.getMapController().setPolylinePoints(entry.getValue(), points)) {
+        it.remove();
+      }
+    }
+    if (mRemainingRoutePolylines.isEmpty()) {
+      NavModule.getInstance().setRemainingRouteListener(null);
+    }
+  }
+
   @Override
   public void removePolygon(String nativeID, String id, final Promise promise) {
     UiThreadUtil.runOnUiThread(
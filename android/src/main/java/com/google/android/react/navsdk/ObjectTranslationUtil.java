@@ -20,6 +20,7 @@ import android.util.Log;
 import androidx.annotation.Nullable;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.google.android.gms.maps.model.CameraPosition;
@@ -37,10 +38,20 @@ import com.google.android.libraries.navigation.NavigationRoadStretchRenderingDat
 import com.google.android.libraries.navigation.RouteSegment;
 import com.google.android.libraries.navigation.RoutingOptions;
 import com.google.android.libraries.navigation.Waypoint;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public class ObjectTranslationUtil {
+  // Bit flags of the packed location "flags" column.
+  public static final int PACKED_LOCATION_HAS_BEARING = 1;
+  public static final int PACKED_LOCATION_HAS_ACCURACY = 1 << 1;
+  public static final int PACKED_LOCATION_HAS_ALTITUDE = 1 << 2;
+
+  // JS GeometryEncoding values.
+  public static final int GEOMETRY_ENCODING_OBJECTS = 0;
+  public static final int GEOMETRY_ENCODING_PACKED = 1;
+  public static final int GEOMETRY_ENCODING_ENCODED_POLYLINE = 2;
 
   /**
    * Parses a standardized hex color string (#RRGGBBAA format) and returns an Android color int.
@@ -100,6 +111,16 @@ public class ObjectTranslationUtil {
   }
 
   public static WritableMap getMapFromRouteSegment(RouteSegment routeSegment) {
+    return getMapFromRouteSegment(routeSegment, GEOMETRY_ENCODING_OBJECTS);
+  }
+
+  /**
+   * @param geometryEncoding one of the {@code GEOMETRY_ENCODING_*} values, selecting whether the
+   *     points are written to {@code segmentLatLngList}, {@code packedSegmentLatLngs} or {@code
+   *     encodedPolyline}
+   */
+  public static WritableMap getMapFromRouteSegment(
+      RouteSegment routeSegment, int geometryEncoding) {
     WritableMap parentMap = Arguments.createMap();
 
     // Destination latLng
@@ -111,11 +132,7 @@ public class ObjectTranslationUtil {
         "destinationWaypoint", getMapFromWaypoint(routeSegment.getDestinationWaypoint()));
 
     // Lat Lngs
-    WritableArray latLngArr = Arguments.createArray();
-    for (LatLng latLng : routeSegment.getLatLngs()) {
-      latLngArr.pushMap(getMapFromLatLng(latLng));
-    }
-    parentMap.putArray("segmentLatLngList", latLngArr);
+    putSegmentLatLngs(parentMap, routeSegment.getLatLngs(), geometryEncoding);
 
     // Traffic data
     WritableArray stretchRenderingDataArr = Arguments.createArray();
@@ -143,6 +160,60 @@ public class ObjectTranslationUtil {
     return map;
   }
 
+  private static void putSegmentLatLngs(
+      WritableMap map, List<LatLng> latLngs, int geometryEncoding) {
+    switch (geometryEncoding) {
+      case GEOMETRY_ENCODING_PACKED:
+        map.putArray("packedSegmentLatLngs", getPackedArrayFromLatLngs(latLngs, 0, latLngs.size()));
+        break;
+      case GEOMETRY_ENCODING_ENCODED_POLYLINE:
+        map.putString("encodedPolyline", GeoUtil.encodePolyline(latLngs, 0, latLngs.size()));
+        break;
+      default:
+        map.putArray("segmentLatLngList", getArrayFromLatLngs(latLngs, 0, latLngs.size()));
+    }
+  }
+
+  /**
+   * Writes the points to {@code points}, {@code packedPoints} or {@code encodedPolyline} depending
+   * on the geometry encoding.
+   */
+  public static void putPoints(WritableMap map, List<LatLng> latLngs, int geometryEncoding) {
+    switch (geometryEncoding) {
+      case GEOMETRY_ENCODING_PACKED:
+        map.putArray("packedPoints", getPackedArrayFromLatLngs(latLngs, 0, latLngs.size()));
+        break;
+      case GEOMETRY_ENCODING_ENCODED_POLYLINE:
+        map.putString("encodedPolyline", GeoUtil.encodePolyline(latLngs, 0, latLngs.size()));
+        break;
+      default:
+        map.putArray("points", getArrayFromLatLngs(latLngs, 0, latLngs.size()));
+    }
+  }
+
+  /** Converts the points in {@code [from, to)} to an array of {@code {lat, lng}} maps. */
+  public static WritableArray getArrayFromLatLngs(List<LatLng> latLngs, int from, int to) {
+    WritableArray array = Arguments.createArray();
+    for (int i = from; i < to; i++) {
+      array.pushMap(getMapFromLatLng(latLngs.get(i)));
+    }
+    return array;
+  }
+
+  /**
+   * Converts the points in {@code [from, to)} to a flat {@code [lat0, lng0, lat1, lng1, ...]}
+   * array, avoiding a map per point.
+   */
+  public static WritableArray getPackedArrayFromLatLngs(List<LatLng> latLngs, int from, int to) {
+    WritableArray array = Arguments.createArray();
+    for (int i = from; i < to; i++) {
+      LatLng latLng = latLngs.get(i);
+      array.pushDouble(latLng.latitude);
+      array.pushDouble(latLng.longitude);
+    }
+    return array;
+  }
+
   public static WritableMap getMapFromWaypoint(Waypoint waypoint) {
     WritableMap map = Arguments.createMap();
 
@@ -156,6 +227,66 @@ public class ObjectTranslationUtil {
     return map;
   }
 
+  /**
+   * Builds a waypoint from its JS representation. Fields are read from the map directly, without
+   * converting it to a HashMap first. A non-empty place ID takes precedence over the position.
+   *
+   * @throws IllegalArgumentException if the waypoint is invalid, with the reason as message
+   */
+  public static Waypoint getWaypointFromMap(ReadableMap map) {
+    String placeId = getNonEmptyString(map, "placeId");
+    if (placeId == null && (!map.hasKey("position") || map.isNull("position"))) {
+      throw new IllegalArgumentException("a placeId or a position is required");
+    }
+
+    try {
+      Waypoint.Builder builder =
+          Waypoint.builder()
+              .setTitle(getNonEmptyString(map, "title"))
+              .setVehicleStopover(
+                  map.hasKey("vehicleStopover") && map.getBoolean("vehicleStopover"))
+              .setPreferSameSideOfRoad(
+                  map.hasKey("preferSameSideOfRoad") && map.getBoolean("preferSameSideOfRoad"));
+
+      if (map.hasKey("preferredHeading") && !map.isNull("preferredHeading")) {
+        builder.setPreferredHeading((int) map.getDouble("preferredHeading"));
+      }
+
+      if (placeId != null) {
+        return builder.setPlaceIdString(placeId).build();
+      }
+
+      ReadableMap position = map.getMap("position");
+      if (!isNumber(position, Constants.LAT_FIELD_KEY)
+          || !isNumber(position, Constants.LNG_FIELD_KEY)) {
+        throw new IllegalArgumentException("position needs a numeric lat and lng");
+      }
+      double lat = position.getDouble(Constants.LAT_FIELD_KEY);
+      double lng = position.getDouble(Constants.LNG_FIELD_KEY);
+      if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+        throw new IllegalArgumentException("position is out of range: " + lat + "," + lng);
+      }
+      return builder.setLatLng(lat, lng).build();
+    } catch (Waypoint.UnsupportedPlaceIdException e) {
+      throw new IllegalArgumentException("place ID is not supported: " + placeId);
+    } catch (Waypoint.InvalidSegmentHeadingException e) {
+      throw new IllegalArgumentException("preferredHeading has to be between 0 and 360");
+    }
+  }
+
+  @Nullable
+  private static String getNonEmptyString(ReadableMap map, String key) {
+    if (!map.hasKey(key) || map.isNull(key)) {
+      return null;
+    }
+    String value = map.getString(key);
+    return value == null || value.isEmpty() ? null : value;
+  }
+
+  static boolean isNumber(ReadableMap map, String key) {
+    return map.hasKey(key) && map.getType(key) == ReadableType.Number;
+  }
+
   public static WritableMap getMapFromStepInfo(StepInfo stepInfo) {
     WritableMap map = Arguments.createMap();
     map.putInt("distanceFromPrevStepMeters", stepInfo.getDistanceFromPrevStepMeters());
@@ -285,6 +416,112 @@ public class ObjectTranslationUtil {
     return map;
   }
 
+  public static WritableArray getArrayFromLocations(List<Location> locations) {
+    WritableArray array = Arguments.createArray();
+    for (Location location : locations) {
+      array.pushMap(getMapFromLocation(location));
+    }
+    return array;
+  }
+
+  /**
+   * Encodes locations column by column: one array per field plus an interned provider table. This
+   * avoids building a map for every fix, which dominates the bridge cost for high-rate streams.
+   * Optional fields are written as 0 and flagged per fix in the {@code flags} column.
+   */
+  public static WritableMap getPackedMapFromLocations(List<Location> locations) {
+    PackedLocationsBuilder builder = new PackedLocationsBuilder();
+    for (Location location : locations) {
+      int flags = 0;
+      if (location.hasBearing()) {
+        flags |= PACKED_LOCATION_HAS_BEARING;
+      }
+      if (location.hasAccuracy()) {
+        flags |= PACKED_LOCATION_HAS_ACCURACY;
+      }
+      if (location.hasAltitude()) {
+        flags |= PACKED_LOCATION_HAS_ALTITUDE;
+      }
+      builder.add(
+          location.getLatitude(),
+          location.getLongitude(),
+          location.getTime(),
+          location.getSpeed(),
+          location.hasBearing() ? location.getBearing() : 0,
+          location.hasAccuracy() ? location.getAccuracy() : 0,
+          location.hasAltitude() ? location.getAltitude() : 0,
+          flags,
+          location.getProvider());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Builds the packed columnar encoding of {@link #getPackedMapFromLocations} from primitive
+   * values, for callers that do not hold {@link Location} objects.
+   */
+  static class PackedLocationsBuilder {
+    private final WritableArray mLat = Arguments.createArray();
+    private final WritableArray mLng = Arguments.createArray();
+    private final WritableArray mTime = Arguments.createArray();
+    private final WritableArray mSpeed = Arguments.createArray();
+    private final WritableArray mBearing = Arguments.createArray();
+    private final WritableArray mAccuracy = Arguments.createArray();
+    private final WritableArray mAltitude = Arguments.createArray();
+    private final WritableArray mFlags = Arguments.createArray();
+    private final WritableArray mProviderIndex = Arguments.createArray();
+    private final WritableArray mProviders = Arguments.createArray();
+    private final Map<String, Integer> mProviderTable = new HashMap<>();
+    private int mCount = 0;
+
+    /** Adds a fix. Optional fields that are not set must be 0 and unflagged. */
+    void add(
+        double lat,
+        double lng,
+        long time,
+        float speed,
+        float bearing,
+        float accuracy,
+        double altitude,
+        int flags,
+        @Nullable String provider) {
+      mLat.pushDouble(lat);
+      mLng.pushDouble(lng);
+      mTime.pushDouble(time);
+      mSpeed.pushDouble(speed);
+      mBearing.pushDouble(bearing);
+      mAccuracy.pushDouble(accuracy);
+      mAltitude.pushDouble(altitude);
+      mFlags.pushInt(flags);
+
+      String name = provider != null ? provider : "";
+      Integer index = mProviderTable.get(name);
+      if (index == null) {
+        index = mProviderTable.size();
+        mProviderTable.put(name, index);
+        mProviders.pushString(name);
+      }
+      mProviderIndex.pushInt(index);
+      mCount++;
+    }
+
+    WritableMap build() {
+      WritableMap map = Arguments.createMap();
+      map.putInt("count", mCount);
+      map.putArray("lat", mLat);
+      map.putArray("lng", mLng);
+      map.putArray("time", mTime);
+      map.putArray("speed", mSpeed);
+      map.putArray("bearing", mBearing);
+      map.putArray("accuracy", mAccuracy);
+      map.putArray("altitude", mAltitude);
+      map.putArray("flags", mFlags);
+      map.putArray("providerIndex", mProviderIndex);
+      map.putArray("providers", mProviders);
+      return map;
+    }
+  }
+
   public static WritableMap getMapFromGroundOverlay(GroundOverlay overlay) {
     return getMapFromGroundOverlay(overlay, overlay.getId());
   }
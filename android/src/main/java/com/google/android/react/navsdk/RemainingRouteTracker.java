@@ -0,0 +1,226 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import android.os.SystemClock;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.libraries.navigation.Navigator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Projects road-snapped locations onto the current route to track the distance along it and the
+ * part not driven yet. Each fix is only matched a short window ahead of the previous projection.
+ */
+public class RemainingRouteTracker {
+  static final double SEARCH_WINDOW_METERS = 1000;
+  static final double MAX_SNAP_DISTANCE_METERS = 100;
+  static final double LISTENER_MIN_DISTANCE_METERS = 5;
+  static final long LISTENER_MIN_INTERVAL_MS = 500;
+
+  public interface Listener {
+    /** Called on the location callback thread after the projection moved, throttled. */
+    void onRemainingRouteChanged(RemainingRouteTracker tracker);
+  }
+
+  private final RouteGeometryLevels mRouteGeometryLevels;
+  @Nullable private Listener mListener;
+  private boolean mEnabled = false;
+  private boolean mRouteStale = true;
+  private List<LatLng> mRoute = Collections.emptyList();
+  // Distance from the start of the route to each point. Shared with RouteGeometryLevels.
+  private double[] mCumulativeMeters = new double[0];
+
+  // Projection reported to the listener last; NaN until the first match on the route.
+  private double mNotifiedDistanceMeters = Double.NaN;
+  private long mNotifiedTime = 0;
+
+  // Projection: on the segment from point mSegmentIndex to the next, at mSegmentFraction.
+  private int mSegmentIndex = 0;
+  private double mSegmentFraction = 0;
+  @Nullable private LatLng mProjectedLatLng;
+
+  public RemainingRouteTracker(RouteGeometryLevels routeGeometryLevels) {
+    mRouteGeometryLevels = routeGeometryLevels;
+  }
+
+  /** Sets the listener that keeps tracking active while set, or null to remove it. */
+  public synchronized void setListener(@Nullable Listener listener) {
+    mListener = listener;
+    if (!isActive()) {
+      onRouteChanged();
+    }
+  }
+
+  /** Enables tracking for JS queries of the remaining route. */
+  public synchronized void setEnabled(boolean enabled) {
+    mEnabled = enabled;
+    if (!isActive()) {
+      onRouteChanged();
+    }
+  }
+
+  /** Returns whether fixes are tracked, because JS enabled it or a listener is set. */
+  public synchronized boolean isActive() {
+    return mEnabled || mListener != null;
+  }
+
+  /** Restarts tracking; the new route is read with the next fix. */
+  public synchronized void onRouteChanged() {
+    mRouteStale = true;
+    mRoute = Collections.emptyList();
+    mCumulativeMeters = new double[0];
+    mSegmentIndex = 0;
+    mSegmentFraction = 0;
+    mProjectedLatLng = null;
+    mNotifiedDistanceMeters = Double.NaN;
+  }
+
+  public void onLocation(Navigator navigator, Location location) {
+    Listener listener;
+    synchronized (this) {
+      if (!isActive()) {
+        return;
+      }
+      if (mRouteStale && !loadRoute(navigator)) {
+        return;
+      }
+      if (!project(location.getLatitude(), location.getLongitude())) {
+        return;
+      }
+      listener = mListener;
+      if (listener == null || !shouldNotify()) {
+        return;
+      }
+    }
+    listener.onRemainingRouteChanged(this);
+  }
+
+  /** Returns whether the listener is due, and if so records the projection it will see. */
+  private boolean shouldNotify() {
+    double distanceMeters = getDistanceAlongRouteMeters();
+    long now = SystemClock.elapsedRealtime();
+    if (!Double.isNaN(mNotifiedDistanceMeters)
+        && (distanceMeters - mNotifiedDistanceMeters < LISTENER_MIN_DISTANCE_METERS
+            || now - mNotifiedTime < LISTENER_MIN_INTERVAL_MS)) {
+      return false;
+    }
+    mNotifiedDistanceMeters = distanceMeters;
+    mNotifiedTime = now;
+    return true;
+  }
+
+  /** Returns whether a location has been matched to the current route. */
+  public synchronized boolean isTracking() {
+    return mProjectedLatLng != null;
+  }
+
+  public synchronized double getDistanceAlongRouteMeters() {
+    if (mProjectedLatLng == null) {
+      return 0;
+    }
+    double segmentMeters =
+        mSegmentIndex + 1 < mCumulativeMeters.length
+            ? mCumulativeMeters[mSegmentIndex + 1] - mCumulativeMeters[mSegmentIndex]
+            : 0;
+    return mCumulativeMeters[mSegmentIndex] + mSegmentFraction * segmentMeters;
+  }
+
+  public synchronized double getRemainingDistanceMeters() {
+    if (mCumulativeMeters.length == 0) {
+      return 0;
+    }
+    return mCumulativeMeters[mCumulativeMeters.length - 1] - getDistanceAlongRouteMeters();
+  }
+
+  /**
+   * Returns the part of the route from the projected location to the destination, starting with
+   * the projected location. Empty until a location was matched.
+   */
+  public synchronized List<LatLng> getRemainingPoints() {
+    if (mProjectedLatLng == null) {
+      return Collections.emptyList();
+    }
+    List<LatLng> points = new ArrayList<>(mRoute.size() - mSegmentIndex);
+    points.add(mProjectedLatLng);
+    points.addAll(mRoute.subList(mSegmentIndex + 1, mRoute.size()));
+    return points;
+  }
+
+  /** Takes the route computed in the background. Returns false if it is not ready yet. */
+  private boolean loadRoute(Navigator navigator) {
+    RouteGeometryLevels.Levels levels = mRouteGeometryLevels.getLevelsIfReady(navigator);
+    if (levels == null) {
+      return false;
+    }
+    mRoute = levels.fullRoute;
+    mCumulativeMeters = levels.cumulativeMeters;
+    mRouteStale = false;
+    return true;
+  }
+
+  /** Moves the projection forward to the given location. Returns whether it was matched. */
+  private boolean project(double lat, double lng) {
+    if (mRoute.size() < 2) {
+      return false;
+    }
+    double metersPerDegree = Math.toRadians(GeoUtil.EARTH_RADIUS_METERS);
+    double windowEnd = mCumulativeMeters[mSegmentIndex] + SEARCH_WINDOW_METERS;
+
+    double bestDistance = Double.MAX_VALUE;
+    int bestSegment = -1;
+    double bestFraction = 0;
+    for (int i = mSegmentIndex;
+        i + 1 < mRoute.size() && (i == mSegmentIndex || mCumulativeMeters[i] <= windowEnd);
+        i++) {
+      LatLng a = mRoute.get(i);
+      LatLng b = mRoute.get(i + 1);
+      // Equirectangular projection around the segment start, in degrees of latitude.
+      double cosLat = Math.cos(Math.toRadians(a.latitude));
+      double dx = (b.longitude - a.longitude) * cosLat;
+      double dy = b.latitude - a.latitude;
+      double x = (lng - a.longitude) * cosLat;
+      double y = lat - a.latitude;
+      double lengthSquared = dx * dx + dy * dy;
+      double t =
+          lengthSquared > 0 ? Math.max(0, Math.min(1, (x * dx + y * dy) / lengthSquared)) : 0;
+      if (i == mSegmentIndex) {
+        // Never move backwards along the current segment.
+        t = Math.max(t, mSegmentFraction);
+      }
+      double distance = Math.hypot(x - t * dx, y - t * dy) * metersPerDegree;
+      if (distance < bestDistance) {
+        bestDistance = distance;
+        bestSegment = i;
+        bestFraction = t;
+      }
+    }
+    if (bestSegment < 0 || bestDistance > MAX_SNAP_DISTANCE_METERS) {
+      return false;
+    }
+
+    mSegmentIndex = bestSegment;
+    mSegmentFraction = bestFraction;
+    LatLng a = mRoute.get(bestSegment);
+    LatLng b = mRoute.get(bestSegment + 1);
+    mProjectedLatLng =
+        new LatLng(
+            a.latitude + bestFraction * (b.latitude - a.latitude),
+            a.longitude + bestFraction * (b.longitude - a.longitude));
+    return true;
+  }
+}
@@ -0,0 +1,222 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.libraries.navigation.Navigator;
+import com.google.android.libraries.navigation.RouteSegment;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Provides simplified geometry of the whole current route at a few precomputed levels of detail.
+ *
+ * <p>When the route changes, the full route polyline is read and simplified with {@link
+ * GeoUtil#simplify} at each of {@link #LEVEL_TOLERANCES_METERS} on a background thread. A request
+ * for an arbitrary tolerance starts from the coarsest level within it and only simplifies that
+ * level further, so even a route overview of a very long route is cheap to produce. The full route
+ * and the distance along it of every point are kept as well, for tracking the remaining route.
+ */
+public class RouteGeometryLevels {
+  /** Tolerances of the precomputed levels, finest first. */
+  static final double[] LEVEL_TOLERANCES_METERS = {5, 25, 100, 500, 2500};
+
+  /** Meters per pixel at zoom level 0 on the equator, for 256 pixel tiles. */
+  private static final double METERS_PER_PIXEL_AT_ZOOM_0 = 156543.03392;
+
+  /** The simplified geometry for a requested tolerance. */
+  public static class Geometry {
+    public final int generation;
+    public final double toleranceMeters;
+    public final int originalPointCount;
+    public final List<LatLng> points;
+
+    Geometry(int generation, double toleranceMeters, int originalPointCount, List<LatLng> points) {
+      this.generation = generation;
+      this.toleranceMeters = toleranceMeters;
+      this.originalPointCount = originalPointCount;
+      this.points = points;
+    }
+  }
+
+  /** Immutable levels of a single route generation. */
+  static class Levels {
+    final int generation;
+    final List<LatLng> fullRoute;
+    // Distance from the start of the route to each point of the full route.
+    final double[] cumulativeMeters;
+    final List<List<LatLng>> simplified;
+
+    Levels(
+        int generation,
+        List<LatLng> fullRoute,
+        double[] cumulativeMeters,
+        List<List<LatLng>> simplified) {
+      this.generation = generation;
+      this.fullRoute = fullRoute;
+      this.cumulativeMeters = cumulativeMeters;
+      this.simplified = simplified;
+    }
+  }
+
+  private final Handler mHandler;
+  private int mGeneration = 0;
+  // Generation whose levels are being computed in the background.
+  private int mRequestedGeneration = -1;
+  @Nullable private Levels mLevels;
+
+  public RouteGeometryLevels() {
+    HandlerThread thread =
+        new HandlerThread("RouteGeometryLevels", Process.THREAD_PRIORITY_BACKGROUND);
+    thread.start();
+    mHandler = new Handler(thread.getLooper());
+  }
+
+  /**
+   * Drops the levels of the previous route and starts precomputing the new ones in the background.
+   * Returns immediately, so it is safe to call from the route changed listener.
+   */
+  public void onRouteChanged(final Navigator navigator) {
+    synchronized (this) {
+      mGeneration++;
+      mRequestedGeneration = mGeneration;
+      mLevels = null;
+    }
+    mHandler.removeCallbacksAndMessages(null);
+    mHandler.post(() -> getLevels(navigator));
+  }
+
+  /**
+   * Returns the levels of the current route if they are ready, or null while they are computed in
+   * the background. Never computes on the calling thread, so it is safe to call for every fix.
+   */
+  @Nullable
+  Levels getLevelsIfReady(final Navigator navigator) {
+    synchronized (this) {
+      if (mLevels != null) {
+        return mLevels;
+      }
+      if (mRequestedGeneration == mGeneration) {
+        return null;
+      }
+      mRequestedGeneration = mGeneration;
+    }
+    mHandler.post(() -> getLevels(navigator));
+    return null;
+  }
+
+  /** Drops the levels without precomputing new ones. */
+  public synchronized void clear() {
+    mGeneration++;
+    mLevels = null;
+  }
+
+  /**
+   * Returns the route simplified to the given tolerance. Computes the levels on the calling thread
+   * if they are not ready yet.
+   *
+   * @param toleranceMeters maximum deviation from the full route, or 0 for the full route
+   */
+  public Geometry getGeometry(Navigator navigator, double toleranceMeters) {
+    Levels levels = getLevels(navigator);
+    if (toleranceMeters <= 0) {
+      return new Geometry(levels.generation, 0, levels.fullRoute.size(), levels.fullRoute);
+    }
+
+    List<LatLng> base = levels.fullRoute;
+    double baseTolerance = 0;
+    for (int i = 0; i < LEVEL_TOLERANCES_METERS.length; i++) {
+      if (LEVEL_TOLERANCES_METERS[i] > toleranceMeters) {
+        break;
+      }
+      base = levels.simplified.get(i);
+      baseTolerance = LEVEL_TOLERANCES_METERS[i];
+    }
+    // The deviations of both passes add up, so the second one only gets the remaining budget.
+    List<LatLng> points = GeoUtil.simplify(base, toleranceMeters - baseTolerance);
+    return new Geometry(levels.generation, toleranceMeters, levels.fullRoute.size(), points);
+  }
+
+  /**
+   * Returns the tolerance matching one screen pixel at the given zoom level, at the latitude of the
+   * middle of the route.
+   */
+  public double getToleranceForZoom(Navigator navigator, double zoomLevel) {
+    List<LatLng> fullRoute = getLevels(navigator).fullRoute;
+    double lat = fullRoute.isEmpty() ? 0 : fullRoute.get(fullRoute.size() / 2).latitude;
+    return METERS_PER_PIXEL_AT_ZOOM_0 * Math.cos(Math.toRadians(lat)) / Math.pow(2, zoomLevel);
+  }
+
+  /** Joins the points of all route segments into a single polyline. */
+  static List<LatLng> getRoutePolyline(List<RouteSegment> segments) {
+    List<LatLng> polyline = new ArrayList<>();
+    for (RouteSegment segment : segments) {
+      List<LatLng> latLngs = segment.getLatLngs();
+      // Consecutive segments share their junction point.
+      int start =
+          !polyline.isEmpty()
+                  && !latLngs.isEmpty()
+                  && latLngs.get(0).equals(polyline.get(polyline.size() - 1))
+              ? 1
+              : 0;
+      polyline.addAll(latLngs.subList(start, latLngs.size()));
+    }
+    return polyline;
+  }
+
+  private Levels getLevels(Navigator navigator) {
+    int generation;
+    synchronized (this) {
+      if (mLevels != null) {
+        return mLevels;
+      }
+      generation = mGeneration;
+    }
+
+    // Simplify outside the lock so that the route changed listener never waits for it.
+    List<LatLng> fullRoute = getRoutePolyline(navigator.getRouteSegments());
+    double[] cumulativeMeters = new double[fullRoute.size()];
+    for (int i = 1; i < fullRoute.size(); i++) {
+      LatLng a = fullRoute.get(i - 1);
+      LatLng b = fullRoute.get(i);
+      cumulativeMeters[i] =
+          cumulativeMeters[i - 1]
+              + GeoUtil.distanceMeters(a.latitude, a.longitude, b.latitude, b.longitude);
+    }
+    List<List<LatLng>> simplified = new ArrayList<>(LEVEL_TOLERANCES_METERS.length);
+    List<LatLng> previous = fullRoute;
+    double previousTolerance = 0;
+    for (double tolerance : LEVEL_TOLERANCES_METERS) {
+      // Each level is derived from the previous one within the same overall tolerance.
+      previous = GeoUtil.simplify(previous, tolerance - previousTolerance);
+      previousTolerance = tolerance;
+      simplified.add(previous);
+    }
+    Levels levels =
+        new Levels(
+            generation, Collections.unmodifiableList(fullRoute), cumulativeMeters, simplified);
+
+    synchronized (this) {
+      if (generation == mGeneration && mLevels == null) {
+        mLevels = levels;
+      }
+    }
+    return levels;
+  }
+}
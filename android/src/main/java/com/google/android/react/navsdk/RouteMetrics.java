@@ -0,0 +1,179 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import java.util.ArrayDeque;
+
+/**
+ * Records the latency of route requests per phase in bounded logarithmic histograms, along with the
+ * most recent samples.
+ */
+public class RouteMetrics {
+  static final int BUCKETS_PER_DOUBLING = 4;
+  static final int BUCKET_COUNT = 16 * BUCKETS_PER_DOUBLING + 1;
+  static final int RECENT_CAPACITY = 50;
+
+  // Routing options of a request.
+  public static final String OPTIONS_DEFAULT = "default";
+  public static final String OPTIONS_ROUTING = "routingOptions";
+  public static final String OPTIONS_ROUTE_TOKEN = "routeToken";
+
+  public interface Listener {
+    void onSample(WritableMap sample);
+  }
+
+  /** Timing of a single route request, in milliseconds. Phases that did not happen are NaN. */
+  public static class Sample {
+    final int waypointCount;
+    final String options;
+    final String status;
+    final double queueMs;
+    final double computeMs;
+    final double totalMs;
+
+    public Sample(
+        int waypointCount,
+        String options,
+        String status,
+        double queueMs,
+        double computeMs,
+        double totalMs) {
+      this.waypointCount = waypointCount;
+      this.options = options;
+      this.status = status;
+      this.queueMs = queueMs;
+      this.computeMs = computeMs;
+      this.totalMs = totalMs;
+    }
+
+    WritableMap toMap() {
+      WritableMap map = Arguments.createMap();
+      map.putInt("waypointCount", waypointCount);
+      map.putString("options", options);
+      map.putString("status", status);
+      putIfSet(map, "queueMs", queueMs);
+      putIfSet(map, "computeMs", computeMs);
+      map.putDouble("totalMs", totalMs);
+      return map;
+    }
+
+    private static void putIfSet(WritableMap map, String key, double value) {
+      if (!Double.isNaN(value)) {
+        map.putDouble(key, value);
+      }
+    }
+  }
+
+  /** Histogram with logarithmic buckets; bucket i holds values up to 2^(i / 4) ms. */
+  static class LatencyHistogram {
+    private final long[] mCounts = new long[BUCKET_COUNT];
+    private long mCount = 0;
+    private double mSumMs = 0;
+    private double mMaxMs = 0;
+
+    void record(double ms) {
+      int bucket =
+          ms <= 1 ? 0 : (int) Math.ceil(Math.log(ms) / Math.log(2) * BUCKETS_PER_DOUBLING);
+      mCounts[Math.min(bucket, BUCKET_COUNT - 1)]++;
+      mCount++;
+      mSumMs += ms;
+      mMaxMs = Math.max(mMaxMs, ms);
+    }
+
+    /** Returns the upper bound of the bucket holding the given quantile, capped at the maximum. */
+    double getPercentile(double quantile) {
+      long rank = (long) Math.ceil(quantile * mCount);
+      long cumulative = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        cumulative += mCounts[i];
+        if (cumulative >= rank) {
+          return Math.min(Math.pow(2, (double) i / BUCKETS_PER_DOUBLING), mMaxMs);
+        }
+      }
+      return mMaxMs;
+    }
+
+    WritableMap toMap() {
+      WritableMap map = Arguments.createMap();
+      map.putDouble("count", mCount);
+      if (mCount > 0) {
+        map.putDouble("meanMs", mSumMs / mCount);
+        map.putDouble("p50Ms", getPercentile(0.5));
+        map.putDouble("p95Ms", getPercentile(0.95));
+        map.putDouble("p99Ms", getPercentile(0.99));
+        map.putDouble("maxMs", mMaxMs);
+      }
+      return map;
+    }
+  }
+
+  @Nullable private Listener mListener;
+  private LatencyHistogram mQueue = new LatencyHistogram();
+  private LatencyHistogram mCompute = new LatencyHistogram();
+  private LatencyHistogram mTotal = new LatencyHistogram();
+  private long mSupersededCount = 0;
+  private final ArrayDeque<Sample> mRecent = new ArrayDeque<>(RECENT_CAPACITY);
+
+  /** Sets the listener notified of every sample, or null to stop notifying. */
+  public synchronized void setListener(@Nullable Listener listener) {
+    mListener = listener;
+  }
+
+  public void record(Sample sample) {
+    Listener listener;
+    synchronized (this) {
+      if (RouteRequestScheduler.STATUS_SUPERSEDED.equals(sample.status)) {
+        mSupersededCount++;
+      } else {
+        mQueue.record(sample.queueMs);
+        mCompute.record(sample.computeMs);
+        mTotal.record(sample.totalMs);
+      }
+      if (mRecent.size() == RECENT_CAPACITY) {
+        mRecent.removeFirst();
+      }
+      mRecent.addLast(sample);
+      listener = mListener;
+    }
+    if (listener != null) {
+      listener.onSample(sample.toMap());
+    }
+  }
+
+  public synchronized void reset() {
+    mQueue = new LatencyHistogram();
+    mCompute = new LatencyHistogram();
+    mTotal = new LatencyHistogram();
+    mSupersededCount = 0;
+    mRecent.clear();
+  }
+
+  public synchronized WritableMap toMap() {
+    WritableMap map = Arguments.createMap();
+    map.putDouble("supersededCount", mSupersededCount);
+    map.putMap("queue", mQueue.toMap());
+    map.putMap("compute", mCompute.toMap());
+    map.putMap("total", mTotal.toMap());
+    WritableArray recent = Arguments.createArray();
+    for (Sample sample : mRecent) {
+      recent.pushMap(sample.toMap());
+    }
+    map.putArray("recent", recent);
+    return map;
+  }
+}
@@ -0,0 +1,275 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Promise;
+import com.google.android.libraries.navigation.ListenableResultFuture;
+import com.google.android.libraries.navigation.Navigator;
+
+/**
+ * Schedules route requests so that only the latest one is computed.
+ *
+ * <p>A new request supersedes the previous one: if the previous request is still waiting for the
+ * debounce window it is never started, and if it is already computing its future is canceled. In
+ * both cases its promise resolves right away with {@link #STATUS_SUPERSEDED}, and a result that
+ * still arrives for it is ignored. With a debounce window, a burst of requests only starts the
+ * last one, once no newer request arrived for the length of the window. Requests come from the JS
+ * module thread while debounced starts and results are delivered on the main thread. State only
+ * changes under the lock; the SDK call, the promise and the metrics are handled after releasing
+ * it.
+ *
+ * <p>Every request is timed from submission to start, from start to the SDK result and in total,
+ * and recorded in {@link RouteMetrics}.
+ */
+public class RouteRequestScheduler {
+  /** Route status of a request that was replaced by a newer one. Matches JS RouteStatus. */
+  public static final String STATUS_SUPERSEDED = "SUPERSEDED";
+
+  /** Starts the route computation of a request. */
+  public interface RouteRequest {
+    @Nullable
+    ListenableResultFuture<Navigator.RouteStatus> start();
+  }
+
+  private final RouteMetrics mMetrics;
+  private final Handler mHandler = new Handler(Looper.getMainLooper());
+  private final Runnable mStartRunnable = this::startPending;
+  private long mDebounceMs = 0;
+  // Bumped whenever the latest request is superseded, to ignore its late result.
+  private int mGeneration = 0;
+  // Promise of the latest request, while it is waiting or computing.
+  @Nullable private Promise mPromise;
+  @Nullable private RouteRequest mPendingRequest;
+  @Nullable private ListenableResultFuture<Navigator.RouteStatus> mFuture;
+  // Number of waypoints of the latest request that was started, 0 once canceled.
+  private int mStartedWaypointCount = 0;
+
+  // Timing of the latest request, in System.nanoTime(). mStartNanos is 0 until it started.
+  private int mWaypointCount;
+  private String mOptions = RouteMetrics.OPTIONS_DEFAULT;
+  private long mSubmitNanos;
+  private long mStartNanos;
+
+  public RouteRequestScheduler(RouteMetrics metrics) {
+    mMetrics = metrics;
+  }
+
+  /**
+   * Returns whether the latest started request had waypoints. A request that is still waiting for
+   * the debounce window, or was superseded before it started, does not count.
+   */
+  public synchronized boolean hasDestinations() {
+    return mStartedWaypointCount > 0;
+  }
+
+  /** Sets how long a request waits for a newer one before it starts. 0 starts it immediately. */
+  public synchronized void setDebounceMs(long debounceMs) {
+    mDebounceMs = Math.max(0, debounceMs);
+  }
+
+  /**
+   * Supersedes the previous request and schedules the given one.
+   *
+   * @param waypointCount number of waypoints of the request, for the metrics
+   * @param options routing options of the request, one of the {@code RouteMetrics.OPTIONS_*}
+   */
+  public void submit(RouteRequest request, Promise promise, int waypointCount, String options) {
+    Runnable finishSuperseded;
+    int generation;
+    boolean startNow;
+    synchronized (this) {
+      finishSuperseded = supersede();
+      mPromise = promise;
+      mWaypointCount = waypointCount;
+      mOptions = options;
+      mSubmitNanos = System.nanoTime();
+      mStartNanos = 0;
+      startNow = mDebounceMs <= 0;
+      if (startNow) {
+        mStartNanos = mSubmitNanos;
+        mStartedWaypointCount = waypointCount;
+      } else {
+        mPendingRequest = request;
+        mHandler.postDelayed(mStartRunnable, mDebounceMs);
+      }
+      generation = mGeneration;
+    }
+    if (finishSuperseded != null) {
+      finishSuperseded.run();
+    }
+    if (startNow) {
+      start(request, generation);
+    }
+  }
+
+  /** Supersedes the latest request without scheduling a new one, and forgets its destinations. */
+  public void cancel() {
+    Runnable finishSuperseded;
+    synchronized (this) {
+      finishSuperseded = supersede();
+      mStartedWaypointCount = 0;
+    }
+    if (finishSuperseded != null) {
+      finishSuperseded.run();
+    }
+  }
+
+  /**
+   * Supersedes the latest request. Returns what is left to do once the lock is released, canceling
+   * its future and resolving its promise, or null if there is nothing to do.
+   */
+  @Nullable
+  private Runnable supersede() {
+    mGeneration++;
+    mHandler.removeCallbacks(mStartRunnable);
+    mPendingRequest = null;
+    ListenableResultFuture<Navigator.RouteStatus> future = mFuture;
+    mFuture = null;
+    Completion completion = complete(STATUS_SUPERSEDED, 0);
+    if (future == null && completion == null) {
+      return null;
+    }
+    return () -> {
+      if (future != null) {
+        future.cancel(true);
+      }
+      if (completion != null) {
+        completion.deliver(mMetrics);
+      }
+    };
+  }
+
+  private void startPending() {
+    RouteRequest request;
+    int generation;
+    synchronized (this) {
+      request = mPendingRequest;
+      mPendingRequest = null;
+      if (request == null) {
+        return;
+      }
+      mStartNanos = System.nanoTime();
+      mStartedWaypointCount = mWaypointCount;
+      generation = mGeneration;
+    }
+    start(request, generation);
+  }
+
+  /** Starts the request outside the lock. A newer request may supersede it meanwhile. */
+  private void start(RouteRequest request, int generation) {
+    ListenableResultFuture<Navigator.RouteStatus> future = request.start();
+    if (future == null) {
+      onResult(generation, Navigator.RouteStatus.OK);
+      return;
+    }
+    boolean isLatest;
+    synchronized (this) {
+      isLatest = generation == mGeneration;
+      if (isLatest) {
+        mFuture = future;
+      }
+    }
+    if (!isLatest) {
+      future.cancel(true);
+      return;
+    }
+    future.setOnResultListener(status -> onResult(generation, status));
+  }
+
+  private void onResult(int generation, Navigator.RouteStatus status) {
+    Completion completion;
+    synchronized (this) {
+      if (generation != mGeneration) {
+        return;
+      }
+      mFuture = null;
+      // Convert RouteStatus to string matching codegen RouteStatusSpec
+      completion =
+          complete(EnumTranslationUtil.getRouteStatusStringValue(status), System.nanoTime());
+    }
+    if (completion != null) {
+      completion.deliver(mMetrics);
+    }
+  }
+
+  /**
+   * Takes the promise of the latest request along with its timing, or returns null if it has no
+   * promise left. {@code resultNanos} is 0 if there is no SDK result.
+   */
+  @Nullable
+  private Completion complete(String status, long resultNanos) {
+    if (mPromise == null) {
+      return null;
+    }
+    Completion completion =
+        new Completion(
+            mPromise,
+            status,
+            mWaypointCount,
+            mOptions,
+            mSubmitNanos,
+            mStartNanos,
+            resultNanos);
+    mPromise = null;
+    return completion;
+  }
+
+  /** Resolution of a request, delivered once the lock is released. */
+  private static class Completion {
+    private final Promise mPromise;
+    private final String mStatus;
+    private final int mWaypointCount;
+    private final String mOptions;
+    private final long mSubmitNanos;
+    private final long mStartNanos;
+    private final long mResultNanos;
+
+    Completion(
+        Promise promise,
+        String status,
+        int waypointCount,
+        String options,
+        long submitNanos,
+        long startNanos,
+        long resultNanos) {
+      mPromise = promise;
+      mStatus = status;
+      mWaypointCount = waypointCount;
+      mOptions = options;
+      mSubmitNanos = submitNanos;
+      mStartNanos = startNanos;
+      mResultNanos = resultNanos;
+    }
+
+    void deliver(RouteMetrics metrics) {
+      mPromise.resolve(mStatus);
+      long resolvedNanos = System.nanoTime();
+      metrics.record(
+          new RouteMetrics.Sample(
+              mWaypointCount,
+              mOptions,
+              mStatus,
+              mStartNanos > 0 ? toMs(mStartNanos - mSubmitNanos) : Double.NaN,
+              mResultNanos > 0 ? toMs(mResultNanos - mStartNanos) : Double.NaN,
+              toMs(resolvedNanos - mSubmitNanos)));
+    }
+  }
+
+  private static double toMs(long nanos) {
+    return nanos / 1e6;
+  }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.libraries.navigation.Navigator;
+import com.google.android.libraries.navigation.RouteSegment;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Caches the route segments of the current route and their converted payloads until {@link
+ * #invalidate()} starts a new generation.
+ */
+public class RouteSegmentCache {
+  private int mGeneration = 0;
+  @Nullable private List<RouteSegment> mSegments;
+  private final HashMap<Integer, List<WritableMap>> mTemplatesByEncoding = new HashMap<>();
+
+  /** Drops the cached route and starts a new generation. */
+  public synchronized void invalidate() {
+    mGeneration++;
+    mSegments = null;
+    mTemplatesByEncoding.clear();
+  }
+
+  public synchronized int getGeneration() {
+    return mGeneration;
+  }
+
+  /** Returns the route segments converted with the given geometry encoding. */
+  public synchronized WritableArray getSegmentsArray(Navigator navigator, int encoding) {
+    List<WritableMap> templates = mTemplatesByEncoding.get(encoding);
+    if (templates == null) {
+      if (mSegments == null) {
+        mSegments = navigator.getRouteSegments();
+      }
+      templates = new ArrayList<>(mSegments.size());
+      for (RouteSegment segment : mSegments) {
+        templates.add(ObjectTranslationUtil.getMapFromRouteSegment(segment, encoding));
+      }
+      mTemplatesByEncoding.put(encoding, templates);
+    }
+
+    WritableArray array = Arguments.createArray();
+    for (WritableMap template : templates) {
+      array.pushMap(template.copy());
+    }
+    return array;
+  }
+
+  /**
+   * Returns {@code { generation, unchanged, segments? }}. The segments are only included when the
+   * current generation differs from the one the caller already has.
+   */
+  public synchronized WritableMap getSnapshotMap(
+      Navigator navigator, int knownGeneration, int encoding) {
+    WritableMap map = Arguments.createMap();
+    map.putInt("generation", mGeneration);
+    boolean unchanged = knownGeneration == mGeneration;
+    map.putBoolean("unchanged", unchanged);
+    if (!unchanged) {
+      map.putArray("segments", getSegmentsArray(navigator, encoding));
+    }
+    return map;
+  }
+}
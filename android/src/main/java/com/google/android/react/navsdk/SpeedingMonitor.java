@@ -0,0 +1,205 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.libraries.navigation.SpeedAlertSeverity;
+
+/**
+ * Turns the speeding updates of the navigator into speeding episodes. Upgrades are reported right
+ * away, while downgrades and the end of an episode wait until the lower severity held for a delay.
+ */
+public class SpeedingMonitor {
+  public static final String EVENT_STARTED = "STARTED";
+  public static final String EVENT_UPGRADED = "UPGRADED";
+  public static final String EVENT_DOWNGRADED = "DOWNGRADED";
+  public static final String EVENT_ENDED = "ENDED";
+
+  static final long DEFAULT_DOWNGRADE_DELAY_MS = 2000;
+  static final long DEFAULT_END_DELAY_MS = 2000;
+
+  // Values of the JS SpeedAlertSeverity enum.
+  static final int SEVERITY_MAJOR = 0;
+  static final int SEVERITY_MINOR = 1;
+  static final int SEVERITY_NONE = 2;
+
+  public interface Listener {
+    void onSpeedingEvent(WritableMap event);
+  }
+
+  private final Listener mListener;
+  private final Handler mHandler = new Handler(Looper.getMainLooper());
+  private final Runnable mSettleRunnable = this::settle;
+  private long mDowngradeDelayMs = DEFAULT_DOWNGRADE_DELAY_MS;
+  private long mEndDelayMs = DEFAULT_END_DELAY_MS;
+
+  // Severity of the last event; NONE outside an episode.
+  private SpeedAlertSeverity mReportedSeverity = SpeedAlertSeverity.NONE;
+  // Latest update, and when its severity was first reported.
+  private SpeedAlertSeverity mSeverity = SpeedAlertSeverity.NONE;
+  private float mPercentAboveLimit = 0;
+  private long mSeverityChangedTime = 0;
+
+  // Aggregates of the current episode.
+  private long mStartTime = 0;
+  private long mStartWallTime = 0;
+  private float mPeakPercentAboveLimit = 0;
+  private SpeedAlertSeverity mMaxSeverity = SpeedAlertSeverity.NONE;
+  private long mMajorDurationMs = 0;
+
+  public SpeedingMonitor(Listener listener) {
+    mListener = listener;
+  }
+
+  /** Sets how long a lower severity must hold before the episode is downgraded. */
+  public synchronized void setDowngradeDelayMs(long delayMs) {
+    mDowngradeDelayMs = Math.max(0, delayMs);
+  }
+
+  /** Sets how long the driver must not be speeding before the episode ends. */
+  public synchronized void setEndDelayMs(long delayMs) {
+    mEndDelayMs = Math.max(0, delayMs);
+  }
+
+  /** Drops the current episode without ending it. */
+  public synchronized void reset() {
+    mHandler.removeCallbacks(mSettleRunnable);
+    mReportedSeverity = SpeedAlertSeverity.NONE;
+    mSeverity = SpeedAlertSeverity.NONE;
+  }
+
+  public void onSpeedingPercentageChanged(float percentAboveLimit, SpeedAlertSeverity severity) {
+    WritableMap event;
+    synchronized (this) {
+      event = updateLocked(percentAboveLimit, severity);
+    }
+    if (event != null) {
+      mListener.onSpeedingEvent(event);
+    }
+  }
+
+  /** Reports a lower severity that held for its delay. */
+  private void settle() {
+    WritableMap event;
+    synchronized (this) {
+      event = settleLocked();
+    }
+    if (event != null) {
+      mListener.onSpeedingEvent(event);
+    }
+  }
+
+  /** Applies the update and returns the event to emit once the lock is released, if any. */
+  @Nullable
+  private WritableMap updateLocked(float percentAboveLimit, SpeedAlertSeverity severity) {
+    long now = SystemClock.elapsedRealtime();
+    if (mReportedSeverity == SpeedAlertSeverity.NONE) {
+      if (severity == SpeedAlertSeverity.NONE) {
+        return null;
+      }
+      mStartTime = now;
+      mStartWallTime = System.currentTimeMillis();
+      mPeakPercentAboveLimit = percentAboveLimit;
+      mMaxSeverity = severity;
+      mMajorDurationMs = 0;
+      mSeverity = severity;
+      mSeverityChangedTime = now;
+      mPercentAboveLimit = percentAboveLimit;
+      return report(EVENT_STARTED, severity, now, now);
+    }
+
+    mPercentAboveLimit = percentAboveLimit;
+    mPeakPercentAboveLimit = Math.max(mPeakPercentAboveLimit, percentAboveLimit);
+    if (severity != mSeverity) {
+      if (mSeverity == SpeedAlertSeverity.MAJOR) {
+        mMajorDurationMs += now - mSeverityChangedTime;
+      }
+      mSeverity = severity;
+      mSeverityChangedTime = now;
+      if (getRank(severity) > getRank(mMaxSeverity)) {
+        mMaxSeverity = severity;
+      }
+    }
+
+    mHandler.removeCallbacks(mSettleRunnable);
+    if (getRank(severity) > getRank(mReportedSeverity)) {
+      return report(EVENT_UPGRADED, severity, now, now);
+    }
+    if (getRank(severity) < getRank(mReportedSeverity)) {
+      long delayMs = severity == SpeedAlertSeverity.NONE ? mEndDelayMs : mDowngradeDelayMs;
+      mHandler.postDelayed(mSettleRunnable, Math.max(0, mSeverityChangedTime + delayMs - now));
+    }
+    return null;
+  }
+
+  @Nullable
+  private WritableMap settleLocked() {
+    if (getRank(mSeverity) >= getRank(mReportedSeverity)) {
+      return null;
+    }
+    long now = SystemClock.elapsedRealtime();
+    if (mSeverity == SpeedAlertSeverity.NONE) {
+      // The episode ended when the severity dropped to NONE, not when that was confirmed.
+      return report(EVENT_ENDED, SpeedAlertSeverity.NONE, now, mSeverityChangedTime);
+    }
+    return report(EVENT_DOWNGRADED, mSeverity, now, now);
+  }
+
+  /** Records the reported severity and returns the event. */
+  private WritableMap report(String type, SpeedAlertSeverity severity, long now, long endTime) {
+    mReportedSeverity = severity;
+    long majorDurationMs = mMajorDurationMs;
+    if (mSeverity == SpeedAlertSeverity.MAJOR) {
+      majorDurationMs += now - mSeverityChangedTime;
+    }
+
+    WritableMap map = Arguments.createMap();
+    map.putString("type", type);
+    map.putInt("severity", getJsSeverity(severity));
+    map.putDouble("percentAboveLimit", mPercentAboveLimit);
+    map.putDouble("startTime", mStartWallTime);
+    map.putDouble("durationMs", endTime - mStartTime);
+    map.putDouble("peakPercentAboveLimit", mPeakPercentAboveLimit);
+    map.putInt("maxSeverity", getJsSeverity(mMaxSeverity));
+    map.putDouble("majorDurationMs", majorDurationMs);
+    return map;
+  }
+
+  private static int getRank(SpeedAlertSeverity severity) {
+    switch (severity) {
+      case MAJOR:
+        return 2;
+      case MINOR:
+        return 1;
+      default:
+        return 0;
+    }
+  }
+
+  private static int getJsSeverity(SpeedAlertSeverity severity) {
+    switch (severity) {
+      case MAJOR:
+        return SEVERITY_MAJOR;
+      case MINOR:
+        return SEVERITY_MINOR;
+      default:
+        return SEVERITY_NONE;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
+import java.util.HashMap;
+
+/**
+ * Caches the converted {@link StepInfo} payloads of the current route, keyed by step number.
+ *
+ * <p>Step contents only change when the route changes, so the cache is dropped whenever the route
+ * generation is bumped with {@link #onRouteChanged()}. Maps handed to the bridge are consumed, so
+ * the cache keeps an unshared template per step and returns a copy of it, which is a single native
+ * call instead of one per field. Steps are converted outside the lock and only stored if the route
+ * generation did not change meanwhile, so a conversion racing with a route change never puts a step
+ * of the old route into the new generation.
+ */
+public class StepInfoConversionCache {
+  private final HashMap<Integer, WritableMap> mTemplates = new HashMap<>();
+  private int mRouteGeneration = 0;
+  private long mHits = 0;
+  private long mMisses = 0;
+
+  /** Starts a new route generation, invalidating all cached steps. */
+  public synchronized void onRouteChanged() {
+    mRouteGeneration++;
+    mTemplates.clear();
+  }
+
+  public synchronized int getRouteGeneration() {
+    return mRouteGeneration;
+  }
+
+  public WritableMap getMap(StepInfo stepInfo) {
+    int generation;
+    synchronized (this) {
+      WritableMap template = mTemplates.get(stepInfo.getStepNumber());
+      if (template != null) {
+        mHits++;
+        return template.copy();
+      }
+      mMisses++;
+      generation = mRouteGeneration;
+    }
+
+    WritableMap template = ObjectTranslationUtil.getMapFromStepInfo(stepInfo);
+    synchronized (this) {
+      // A route change during the conversion means the step may belong to the old route.
+      if (generation != mRouteGeneration) {
+        return template;
+      }
+      mTemplates.put(stepInfo.getStepNumber(), template);
+    }
+    return template.copy();
+  }
+
+  public synchronized WritableMap getStatsMap() {
+    WritableMap map = Arguments.createMap();
+    map.putDouble("hits", mHits);
+    map.putDouble("misses", mMisses);
+    map.putInt("size", mTemplates.size());
+    map.putInt("routeGeneration", mRouteGeneration);
+    return map;
+  }
+}
@@ -0,0 +1,470 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Xml;
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.gms.maps.model.LatLng;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+
+/**
+ * Replays a recorded GPX or compact binary location trace into the navigation simulator. Every fix
+ * is due at a fixed offset from the start of the replay, so timing jitter does not accumulate.
+ */
+public class TraceReplaySimulator {
+  public static final String STATE_IDLE = "IDLE";
+  public static final String STATE_LOADING = "LOADING";
+  public static final String STATE_PLAYING = "PLAYING";
+  public static final String STATE_PAUSED = "PAUSED";
+
+  static final byte[] BINARY_MAGIC = {'N', 'V', 'T', 'R'};
+  static final int BINARY_VERSION = 1;
+  private static final double E6 = 1e6;
+
+  private static final Pattern ISO_8601_PATTERN =
+      Pattern.compile(
+          "(\\d{4})-(\\d{2})-(\\d{2})T(\\d{2}):(\\d{2}):(\\d{2})(?:\\.(\\d+))?"
+              + "(Z|[+-]\\d{2}:?\\d{2})?");
+
+  /** Receives the replayed locations on the main thread. */
+  public interface Sink {
+    void setUserLocation(LatLng latLng);
+  }
+
+  /** Opens the trace on the background thread. */
+  public interface TraceSource {
+    InputStream open() throws IOException;
+  }
+
+  public static class Options {
+    public double speedMultiplier = 1;
+    public boolean loop = false;
+    /** Standard deviation of the position noise added to every fix. */
+    public double positionJitterMeters = 0;
+    /** Maximum time a fix is delivered early or late, uniformly distributed. */
+    public long timingJitterMs = 0;
+    @Nullable public Long seed;
+    /** Interval between fixes of a trace without timestamps, and between loops. */
+    public long defaultIntervalMs = 1000;
+    /** Longest pause between two fixes, or 0 to keep the recorded pauses. */
+    public long maxGapMs = 0;
+  }
+
+  /** Fixes of a trace, with times relative to the first fix or null if the trace is untimed. */
+  static class Trace {
+    final double[] lats;
+    final double[] lngs;
+    @Nullable final long[] timesMs;
+
+    Trace(double[] lats, double[] lngs, @Nullable long[] timesMs) {
+      this.lats = lats;
+      this.lngs = lngs;
+      this.timesMs = timesMs;
+    }
+
+    int size() {
+      return lats.length;
+    }
+  }
+
+  private final Sink mSink;
+  private final Handler mHandler;
+  private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+  // Bumped by start and stop, so that work of a previous replay is dropped.
+  private int mGeneration = 0;
+  private String mState = STATE_IDLE;
+  @Nullable private Trace mTrace;
+  private Options mOptions = new Options();
+  private Random mRandom = new Random();
+  // Offset of every fix from the start of a loop, in trace milliseconds.
+  private long[] mOffsetsMs = new long[0];
+  private int mIndex = 0;
+  private int mLoopCount = 0;
+  // Uptime at which the current loop started, moved forward by the time spent paused.
+  private long mLoopStartUptime = 0;
+  private long mPausedUptime = 0;
+
+  public TraceReplaySimulator(Sink sink) {
+    mSink = sink;
+    HandlerThread thread =
+        new HandlerThread("TraceReplaySimulator", Process.THREAD_PRIORITY_BACKGROUND);
+    thread.start();
+    mHandler = new Handler(thread.getLooper());
+  }
+
+  /**
+   * Stops the current replay, then reads the trace in the background and starts replaying it. The
+   * promise resolves with the state once the trace is read, or rejects if it cannot be read.
+   */
+  public synchronized void start(TraceSource source, Options options, Promise promise) {
+    stopLocked();
+    final int generation = mGeneration;
+    mState = STATE_LOADING;
+    mHandler.post(
+        () -> {
+          Trace trace;
+          try (InputStream stream = source.open()) {
+            trace = read(stream);
+          } catch (IOException | XmlPullParserException | IllegalArgumentException e) {
+            synchronized (this) {
+              if (generation == mGeneration) {
+                mState = STATE_IDLE;
+              }
+            }
+            promise.reject(JsErrors.INVALID_OPTIONS_ERROR_CODE, "Invalid trace: " + e.getMessage());
+            return;
+          }
+          synchronized (this) {
+            if (generation != mGeneration) {
+              promise.resolve(getStateMap());
+              return;
+            }
+            mTrace = trace;
+            mOptions = options;
+            mRandom = options.seed != null ? new Random(options.seed) : new Random();
+            mOffsetsMs = getOffsets(trace, options);
+            mIndex = 0;
+            mLoopCount = 0;
+            mLoopStartUptime = SystemClock.uptimeMillis();
+            mState = STATE_PLAYING;
+            scheduleNext();
+            promise.resolve(getStateMap());
+          }
+        });
+  }
+
+  public synchronized void pause() {
+    if (!STATE_PLAYING.equals(mState)) {
+      return;
+    }
+    mHandler.removeCallbacksAndMessages(null);
+    mPausedUptime = SystemClock.uptimeMillis();
+    mState = STATE_PAUSED;
+  }
+
+  public synchronized void resume() {
+    if (!STATE_PAUSED.equals(mState)) {
+      return;
+    }
+    mLoopStartUptime += SystemClock.uptimeMillis() - mPausedUptime;
+    mState = STATE_PLAYING;
+    scheduleNext();
+  }
+
+  public synchronized void stop() {
+    stopLocked();
+  }
+
+  public synchronized boolean isActive() {
+    return !STATE_IDLE.equals(mState);
+  }
+
+  public synchronized WritableMap getStateMap() {
+    WritableMap map = Arguments.createMap();
+    map.putString("state", mState);
+    map.putInt("fixCount", mTrace != null ? mTrace.size() : 0);
+    map.putInt("index", mIndex);
+    map.putInt("loopCount", mLoopCount);
+    map.putDouble("traceDurationMs", mOffsetsMs.length > 0 ? mOffsetsMs[mOffsetsMs.length - 1] : 0);
+    return map;
+  }
+
+  private void stopLocked() {
+    mGeneration++;
+    mHandler.removeCallbacksAndMessages(null);
+    mState = STATE_IDLE;
+    mTrace = null;
+    mOffsetsMs = new long[0];
+    mIndex = 0;
+    mLoopCount = 0;
+  }
+
+  private void scheduleNext() {
+    final int generation = mGeneration;
+    long dueUptime = mLoopStartUptime + (long) (mOffsetsMs[mIndex] / mOptions.speedMultiplier);
+    if (mOptions.timingJitterMs > 0) {
+      dueUptime += (long) ((mRandom.nextDouble() * 2 - 1) * mOptions.timingJitterMs);
+    }
+    mHandler.postAtTime(() -> playNext(generation), dueUptime);
+  }
+
+  private synchronized void playNext(int generation) {
+    if (generation != mGeneration || !STATE_PLAYING.equals(mState) || mTrace == null) {
+      return;
+    }
+    final LatLng latLng = getJitteredLatLng(mIndex);
+    mMainHandler.post(
+        () -> {
+          if (isCurrent(generation)) {
+            mSink.setUserLocation(latLng);
+          }
+        });
+
+    mIndex++;
+    if (mIndex == mTrace.size()) {
+      if (!mOptions.loop) {
+        mState = STATE_IDLE;
+        return;
+      }
+      // The next loop starts one interval after the last fix.
+      mLoopStartUptime +=
+          (long)
+              ((mOffsetsMs[mOffsetsMs.length - 1] + mOptions.defaultIntervalMs)
+                  / mOptions.speedMultiplier);
+      mIndex = 0;
+      mLoopCount++;
+    }
+    scheduleNext();
+  }
+
+  private synchronized boolean isCurrent(int generation) {
+    return generation == mGeneration;
+  }
+
+  private LatLng getJitteredLatLng(int i) {
+    double lat = mTrace.lats[i];
+    double lng = mTrace.lngs[i];
+    if (mOptions.positionJitterMeters > 0) {
+      double northMeters = mRandom.nextGaussian() * mOptions.positionJitterMeters;
+      double eastMeters = mRandom.nextGaussian() * mOptions.positionJitterMeters;
+      lat += Math.toDegrees(northMeters / GeoUtil.EARTH_RADIUS_METERS);
+      lng +=
+          Math.toDegrees(
+              eastMeters / (GeoUtil.EARTH_RADIUS_METERS * Math.cos(Math.toRadians(lat))));
+    }
+    return new LatLng(lat, lng);
+  }
+
+  /** Returns the offset of every fix from the start of a loop, honoring the options. */
+  static long[] getOffsets(Trace trace, Options options) {
+    long[] offsets = new long[trace.size()];
+    for (int i = 1; i < offsets.length; i++) {
+      long gap =
+          trace.timesMs != null
+              ? Math.max(0, trace.timesMs[i] - trace.timesMs[i - 1])
+              : options.defaultIntervalMs;
+      if (options.maxGapMs > 0) {
+        gap = Math.min(gap, options.maxGapMs);
+      }
+      offsets[i] = offsets[i - 1] + gap;
+    }
+    return offsets;
+  }
+
+  /** Reads a GPX or binary trace, telling them apart by the binary magic. */
+  static Trace read(InputStream stream) throws IOException, XmlPullParserException {
+    BufferedInputStream buffered = new BufferedInputStream(stream);
+    buffered.mark(BINARY_MAGIC.length);
+    byte[] magic = new byte[BINARY_MAGIC.length];
+    int read = buffered.read(magic);
+    if (read == BINARY_MAGIC.length && Arrays.equals(magic, BINARY_MAGIC)) {
+      return readBinary(buffered);
+    }
+    buffered.reset();
+    return readGpx(buffered);
+  }
+
+  private static Trace readBinary(InputStream stream) throws IOException {
+    int version = stream.read();
+    if (version != BINARY_VERSION) {
+      throw new IllegalArgumentException("unsupported binary trace version " + version);
+    }
+    DoubleList lats = new DoubleList();
+    DoubleList lngs = new DoubleList();
+    LongList times = new LongList();
+    long latE6 = 0;
+    long lngE6 = 0;
+    long timeMs = 0;
+    while (true) {
+      Long latDelta = readZigZagVarint(stream);
+      if (latDelta == null) {
+        break;
+      }
+      Long lngDelta = readZigZagVarint(stream);
+      Long timeDelta = readZigZagVarint(stream);
+      if (lngDelta == null || timeDelta == null) {
+        throw new IllegalArgumentException("truncated fix " + lats.size);
+      }
+      latE6 += latDelta;
+      lngE6 += lngDelta;
+      timeMs += timeDelta;
+      addFix(lats, lngs, latE6 / E6, lngE6 / E6);
+      times.add(timeMs);
+    }
+    return toTrace(lats, lngs, times);
+  }
+
+  /** Returns the next varint, or null at the end of the stream. */
+  @Nullable
+  private static Long readZigZagVarint(InputStream stream) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = stream.read();
+      if (b < 0) {
+        if (shift == 0) {
+          return null;
+        }
+        throw new IllegalArgumentException("truncated varint");
+      }
+      value |= (long) (b & 0x7f) << shift;
+      if ((b & 0x80) == 0) {
+        return (value >>> 1) ^ -(value & 1);
+      }
+    }
+    throw new IllegalArgumentException("varint too long");
+  }
+
+  private static Trace readGpx(InputStream stream) throws IOException, XmlPullParserException {
+    XmlPullParser parser = Xml.newPullParser();
+    parser.setInput(stream, null);
+    DoubleList lats = new DoubleList();
+    DoubleList lngs = new DoubleList();
+    LongList times = new LongList();
+    boolean timed = true;
+    boolean inPoint = false;
+    Long pointTime = null;
+    for (int event = parser.getEventType();
+        event != XmlPullParser.END_DOCUMENT;
+        event = parser.next()) {
+      String name = parser.getName();
+      if (event == XmlPullParser.START_TAG && ("trkpt".equals(name) || "rtept".equals(name))) {
+        inPoint = true;
+        pointTime = null;
+        addFix(
+            lats,
+            lngs,
+            parseCoordinate(parser.getAttributeValue(null, "lat"), lats.size),
+            parseCoordinate(parser.getAttributeValue(null, "lon"), lats.size));
+      } else if (event == XmlPullParser.START_TAG && inPoint && "time".equals(name)) {
+        pointTime = parseIso8601(parser.nextText().trim());
+      } else if (event == XmlPullParser.END_TAG && ("trkpt".equals(name) || "rtept".equals(name))) {
+        inPoint = false;
+        timed &= pointTime != null;
+        times.add(pointTime != null ? pointTime : 0);
+      }
+    }
+    return toTrace(lats, lngs, timed ? times : null);
+  }
+
+  private static double parseCoordinate(@Nullable String value, int index) {
+    try {
+      return Double.parseDouble(value);
+    } catch (NullPointerException | NumberFormatException e) {
+      throw new IllegalArgumentException("invalid coordinate of point " + index);
+    }
+  }
+
+  /** Parses an ISO 8601 date-time, as used by GPX, into milliseconds since Unix Epoch. */
+  @Nullable
+  static Long parseIso8601(String value) {
+    Matcher matcher = ISO_8601_PATTERN.matcher(value);
+    if (!matcher.matches()) {
+      return null;
+    }
+    Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    calendar.clear();
+    calendar.set(
+        Integer.parseInt(matcher.group(1)),
+        Integer.parseInt(matcher.group(2)) - 1,
+        Integer.parseInt(matcher.group(3)),
+        Integer.parseInt(matcher.group(4)),
+        Integer.parseInt(matcher.group(5)),
+        Integer.parseInt(matcher.group(6)));
+    long timeMs = calendar.getTimeInMillis();
+    String fraction = matcher.group(7);
+    if (fraction != null) {
+      timeMs += Math.round(Double.parseDouble("0." + fraction) * 1000);
+    }
+    String zone = matcher.group(8);
+    if (zone != null && !"Z".equals(zone)) {
+      String digits = zone.replace(":", "");
+      int offsetMinutes =
+          Integer.parseInt(digits.substring(1, 3)) * 60 + Integer.parseInt(digits.substring(3, 5));
+      timeMs -= (zone.charAt(0) == '-' ? -1 : 1) * offsetMinutes * 60_000L;
+    }
+    return timeMs;
+  }
+
+  private static void addFix(DoubleList lats, DoubleList lngs, double lat, double lng) {
+    if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+      throw new IllegalArgumentException("coordinate of point " + lats.size + " out of range");
+    }
+    lats.add(lat);
+    lngs.add(lng);
+  }
+
+  private static Trace toTrace(DoubleList lats, DoubleList lngs, @Nullable LongList times) {
+    if (lats.size == 0) {
+      throw new IllegalArgumentException("trace has no points");
+    }
+    long[] timesMs = null;
+    if (times != null) {
+      timesMs = Arrays.copyOf(times.values, times.size);
+      long first = timesMs[0];
+      for (int i = 0; i < timesMs.length; i++) {
+        timesMs[i] -= first;
+      }
+      if (timesMs.length > 1 && timesMs[timesMs.length - 1] == 0) {
+        // All fixes share a time, so the trace carries no timing.
+        timesMs = null;
+      }
+    }
+    return new Trace(
+        Arrays.copyOf(lats.values, lats.size), Arrays.copyOf(lngs.values, lngs.size), timesMs);
+  }
+
+  /** Growable list of primitives, so that long traces do not box every value. */
+  private static class DoubleList {
+    double[] values = new double[256];
+    int size = 0;
+
+    void add(double value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+  }
+
+  private static class LongList {
+    long[] values = new long[256];
+    int size = 0;
+
+    void add(long value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+  }
+}
@@ -0,0 +1,272 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.libraries.navigation.NavigationRoadStretchRenderingData;
+import com.google.android.libraries.navigation.Navigator;
+import com.google.android.libraries.navigation.RouteSegment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Indexes the traffic road stretches of all route segments by their distance along the route, and
+ * reports the distance ranges whose traffic changed on every traffic update.
+ */
+public class TrafficIndex {
+  /** Style of a distance range without a road stretch, i.e. normal traffic. */
+  public static final int STYLE_NONE = -1;
+
+  // Values of the JS Style enum.
+  static final int STYLE_UNKNOWN = 0;
+  static final int STYLE_SLOWER_TRAFFIC = 1;
+  static final int STYLE_TRAFFIC_JAM = 2;
+
+  /** Stretches sorted by start, in meters along the route. */
+  private static class Stretches {
+    static final Stretches EMPTY = new Stretches(0);
+
+    final double[] starts;
+    final double[] ends;
+    final int[] styles;
+    final int[] segmentIndices;
+    int count;
+
+    Stretches(int capacity) {
+      starts = new double[capacity];
+      ends = new double[capacity];
+      styles = new int[capacity];
+      segmentIndices = new int[capacity];
+    }
+
+    /** Returns the style at the given distance, advancing the cursor past earlier stretches. */
+    int styleAt(double meters, int[] cursor) {
+      while (cursor[0] < count && ends[cursor[0]] <= meters) {
+        cursor[0]++;
+      }
+      int i = cursor[0];
+      return i < count && starts[i] <= meters ? styles[i] : STYLE_NONE;
+    }
+  }
+
+  @Nullable private double[] mSegmentStartMeters;
+  private Stretches mStretches = Stretches.EMPTY;
+  private boolean mBuilt = false;
+
+  /**
+   * Drops the index of the previous route. The next traffic update reports every stretch of the new
+   * route as changed.
+   */
+  public synchronized void onRouteChanged() {
+    mSegmentStartMeters = null;
+    mStretches = Stretches.EMPTY;
+    mBuilt = false;
+  }
+
+  /**
+   * Marks the index stale after a traffic update that was not diffed, so the next query rebuilds
+   * it. The previous stretches are kept for the next diff.
+   */
+  public synchronized void invalidate() {
+    mBuilt = false;
+  }
+
+  /**
+   * Rebuilds the index from the current traffic data and returns the ranges that changed, as
+   * {@code { changedRanges: [{ fromMeters, toMeters, style }] }}. Adjacent changed ranges with the
+   * same new style are merged.
+   */
+  public synchronized WritableMap onTrafficUpdated(Navigator navigator) {
+    Stretches previous = mStretches;
+    build(navigator);
+
+    WritableArray changedRanges = Arguments.createArray();
+    double[] breakpoints = getBreakpoints(previous, mStretches);
+    int[] previousCursor = {0};
+    int[] currentCursor = {0};
+    double rangeStart = 0;
+    double rangeEnd = -1;
+    int rangeStyle = STYLE_NONE;
+    for (int i = 0; i + 1 < breakpoints.length; i++) {
+      double from = breakpoints[i];
+      double to = breakpoints[i + 1];
+      int previousStyle = previous.styleAt(from, previousCursor);
+      int currentStyle = mStretches.styleAt(from, currentCursor);
+      if (previousStyle == currentStyle) {
+        continue;
+      }
+      if (rangeEnd == from && rangeStyle == currentStyle) {
+        rangeEnd = to;
+        continue;
+      }
+      if (rangeEnd >= 0) {
+        changedRanges.pushMap(getRangeMap(rangeStart, rangeEnd, rangeStyle));
+      }
+      rangeStart = from;
+      rangeEnd = to;
+      rangeStyle = currentStyle;
+    }
+    if (rangeEnd >= 0) {
+      changedRanges.pushMap(getRangeMap(rangeStart, rangeEnd, rangeStyle));
+    }
+
+    WritableMap map = Arguments.createMap();
+    map.putArray("changedRanges", changedRanges);
+    return map;
+  }
+
+  /**
+   * Returns the stretch covering the given distance along the route, or null for normal traffic.
+   */
+  @Nullable
+  public synchronized WritableMap getTrafficAt(Navigator navigator, double offsetMeters) {
+    ensureBuilt(navigator);
+    int i = findFirstEndingAfter(offsetMeters);
+    if (i >= mStretches.count || mStretches.starts[i] > offsetMeters) {
+      return null;
+    }
+    return getStretchMap(i);
+  }
+
+  /** Returns the stretches overlapping the given distance range along the route. */
+  public synchronized WritableArray getTrafficRange(
+      Navigator navigator, double fromMeters, double toMeters) {
+    ensureBuilt(navigator);
+    WritableArray array = Arguments.createArray();
+    for (int i = findFirstEndingAfter(fromMeters);
+        i < mStretches.count && mStretches.starts[i] < toMeters;
+        i++) {
+      array.pushMap(getStretchMap(i));
+    }
+    return array;
+  }
+
+  /** Returns the index of the first stretch that ends after the given distance. */
+  private int findFirstEndingAfter(double meters) {
+    // Stretches do not overlap, so their ends are sorted as well.
+    int low = 0;
+    int high = mStretches.count;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (mStretches.ends[mid] <= meters) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private void ensureBuilt(Navigator navigator) {
+    if (!mBuilt) {
+      build(navigator);
+    }
+  }
+
+  private void build(Navigator navigator) {
+    List<RouteSegment> segments = navigator.getRouteSegments();
+    if (mSegmentStartMeters == null || mSegmentStartMeters.length != segments.size()) {
+      mSegmentStartMeters = new double[segments.size()];
+      double routeMeters = 0;
+      for (int i = 0; i < segments.size(); i++) {
+        mSegmentStartMeters[i] = routeMeters;
+        routeMeters += getLengthMeters(segments.get(i).getLatLngs());
+      }
+    }
+
+    List<double[]> entries = new ArrayList<>();
+    for (int i = 0; i < segments.size(); i++) {
+      for (NavigationRoadStretchRenderingData data :
+          segments.get(i).getTrafficData().getRoadStretchRenderingDataList()) {
+        double start = mSegmentStartMeters[i] + data.getOffsetMeters();
+        entries.add(
+            new double[] {start, start + data.getLengthMeters(), getStyle(data.getStyle()), i});
+      }
+    }
+    entries.sort((a, b) -> Double.compare(a[0], b[0]));
+
+    Stretches stretches = new Stretches(entries.size());
+    for (double[] entry : entries) {
+      int i = stretches.count++;
+      stretches.starts[i] = entry[0];
+      stretches.ends[i] = entry[1];
+      stretches.styles[i] = (int) entry[2];
+      stretches.segmentIndices[i] = (int) entry[3];
+    }
+    mStretches = stretches;
+    mBuilt = true;
+  }
+
+  private static double[] getBreakpoints(Stretches a, Stretches b) {
+    double[] breakpoints = new double[2 * (a.count + b.count)];
+    int n = 0;
+    for (Stretches stretches : new Stretches[] {a, b}) {
+      for (int i = 0; i < stretches.count; i++) {
+        breakpoints[n++] = stretches.starts[i];
+        breakpoints[n++] = stretches.ends[i];
+      }
+    }
+    Arrays.sort(breakpoints, 0, n);
+    int unique = 0;
+    for (int i = 0; i < n; i++) {
+      if (unique == 0 || breakpoints[i] != breakpoints[unique - 1]) {
+        breakpoints[unique++] = breakpoints[i];
+      }
+    }
+    return Arrays.copyOf(breakpoints, unique);
+  }
+
+  private static double getLengthMeters(List<LatLng> latLngs) {
+    double meters = 0;
+    for (int i = 1; i < latLngs.size(); i++) {
+      LatLng a = latLngs.get(i - 1);
+      LatLng b = latLngs.get(i);
+      meters += GeoUtil.distanceMeters(a.latitude, a.longitude, b.latitude, b.longitude);
+    }
+    return meters;
+  }
+
+  private static int getStyle(NavigationRoadStretchRenderingData.Style style) {
+    switch (style) {
+      case SLOWER_TRAFFIC:
+        return STYLE_SLOWER_TRAFFIC;
+      case TRAFFIC_JAM:
+        return STYLE_TRAFFIC_JAM;
+      default:
+        return STYLE_UNKNOWN;
+    }
+  }
+
+  private WritableMap getStretchMap(int i) {
+    WritableMap map = Arguments.createMap();
+    map.putDouble("offsetMeters", mStretches.starts[i]);
+    map.putDouble("lengthMeters", mStretches.ends[i] - mStretches.starts[i]);
+    map.putInt("style", mStretches.styles[i]);
+    map.putInt("segmentIndex", mStretches.segmentIndices[i]);
+    return map;
+  }
+
+  private static WritableMap getRangeMap(double fromMeters, double toMeters, int style) {
+    WritableMap map = Arguments.createMap();
+    map.putDouble("fromMeters", fromMeters);
+    map.putDouble("toMeters", toMeters);
+    map.putInt("style", style);
+    return map;
+  }
+}
@@ -0,0 +1,176 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
+import com.google.android.libraries.navigation.Navigator;
+import com.google.android.libraries.navigation.RouteSegment;
+import com.google.android.libraries.navigation.TimeAndDistance;
+import com.google.android.libraries.navigation.Waypoint;
+import java.util.Objects;
+
+/**
+ * Merges the remaining time and distance, the current step, the next waypoint and the current speed
+ * into a trip progress snapshot, emitted at a fixed cadence whenever it changed.
+ */
+public class TripProgressAggregator {
+  static final float SPEED_RESOLUTION_MPS = 0.5f;
+
+  public interface Listener {
+    void onTripProgress(WritableMap snapshot);
+  }
+
+  private final StepInfoConversionCache mStepCache;
+  private final Listener mListener;
+  private final Handler mHandler = new Handler(Looper.getMainLooper());
+  private final Runnable mTickRunnable = this::tick;
+  @Nullable private Navigator mNavigator;
+  private long mIntervalMs = 0;
+
+  // Latest inputs.
+  @Nullable private StepInfo mCurrentStep;
+  @Nullable private Integer mDistanceToCurrentStepMeters;
+  private boolean mHasSpeed = false;
+  private float mSpeedMps;
+
+  // Key of the previously emitted snapshot, used for change suppression.
+  @Nullable private Object[] mPreviousKey;
+
+  public TripProgressAggregator(StepInfoConversionCache stepCache, Listener listener) {
+    mStepCache = stepCache;
+    mListener = listener;
+  }
+
+  public synchronized void setNavigator(@Nullable Navigator navigator) {
+    mNavigator = navigator;
+  }
+
+  /**
+   * Starts emitting snapshots at the given interval, restarting the cadence, or stops emitting if
+   * the interval is 0. The next snapshot is always emitted.
+   */
+  public synchronized void setInterval(long intervalMs) {
+    mIntervalMs = Math.max(0, intervalMs);
+    mPreviousKey = null;
+    mHandler.removeCallbacks(mTickRunnable);
+    if (mIntervalMs > 0) {
+      mHandler.post(mTickRunnable);
+    }
+  }
+
+  public synchronized boolean isEnabled() {
+    return mIntervalMs > 0;
+  }
+
+  /** Drops the step of the previous route and session. */
+  public synchronized void reset() {
+    mCurrentStep = null;
+    mDistanceToCurrentStepMeters = null;
+    mHasSpeed = false;
+    mPreviousKey = null;
+  }
+
+  public synchronized void onNavInfo(NavInfo navInfo) {
+    mCurrentStep = navInfo.getCurrentStep();
+    mDistanceToCurrentStepMeters = navInfo.getDistanceToCurrentStepMeters();
+  }
+
+  public synchronized void onLocation(Location location) {
+    mHasSpeed = location.hasSpeed();
+    mSpeedMps = location.getSpeed();
+  }
+
+  private void tick() {
+    Navigator navigator;
+    StepInfo currentStep;
+    Integer distanceToCurrentStepMeters;
+    Float speedMps;
+    synchronized (this) {
+      if (mIntervalMs <= 0) {
+        return;
+      }
+      mHandler.postDelayed(mTickRunnable, mIntervalMs);
+      if (mNavigator == null) {
+        return;
+      }
+      navigator = mNavigator;
+      currentStep = mCurrentStep;
+      distanceToCurrentStepMeters = mDistanceToCurrentStepMeters;
+      speedMps = mHasSpeed ? mSpeedMps : null;
+    }
+
+    // The navigator is queried and the snapshot built outside the lock, so nav info and location
+    // updates are not held up by the conversion or by the listener.
+    TimeAndDistance timeAndDistance = navigator.getCurrentTimeAndDistance();
+    RouteSegment currentSegment = navigator.getCurrentRouteSegment();
+    Waypoint nextWaypoint = currentSegment != null ? currentSegment.getDestinationWaypoint() : null;
+
+    Object[] key = {
+      timeAndDistance != null ? timeAndDistance.getSeconds() : null,
+      timeAndDistance != null ? timeAndDistance.getMeters() : null,
+      timeAndDistance != null ? timeAndDistance.getDelaySeverity() : null,
+      currentStep != null ? currentStep.getStepNumber() : null,
+      distanceToCurrentStepMeters,
+      nextWaypoint != null ? nextWaypoint.getPlaceId() : null,
+      nextWaypoint != null ? nextWaypoint.getTitle() : null,
+      nextWaypoint != null ? nextWaypoint.getPosition() : null,
+      speedMps != null ? Math.round(speedMps / SPEED_RESOLUTION_MPS) : null,
+    };
+    synchronized (this) {
+      if (mIntervalMs <= 0 || (mPreviousKey != null && Objects.deepEquals(key, mPreviousKey))) {
+        return;
+      }
+      mPreviousKey = key;
+    }
+    mListener.onTripProgress(
+        getSnapshotMap(
+            timeAndDistance, currentStep, distanceToCurrentStepMeters, nextWaypoint, speedMps));
+  }
+
+  private WritableMap getSnapshotMap(
+      @Nullable TimeAndDistance timeAndDistance,
+      @Nullable StepInfo currentStep,
+      @Nullable Integer distanceToCurrentStepMeters,
+      @Nullable Waypoint nextWaypoint,
+      @Nullable Float speedMps) {
+    WritableMap map = Arguments.createMap();
+    if (timeAndDistance != null) {
+      WritableMap timeAndDistanceMap = Arguments.createMap();
+      timeAndDistanceMap.putInt("delaySeverity", timeAndDistance.getDelaySeverity());
+      timeAndDistanceMap.putInt("meters", timeAndDistance.getMeters());
+      timeAndDistanceMap.putInt("seconds", timeAndDistance.getSeconds());
+      map.putMap("timeAndDistance", timeAndDistanceMap);
+    }
+    if (currentStep != null) {
+      map.putMap("currentStep", mStepCache.getMap(currentStep));
+    }
+    if (distanceToCurrentStepMeters != null) {
+      map.putInt("distanceToCurrentStepMeters", distanceToCurrentStepMeters);
+    }
+    if (nextWaypoint != null) {
+      map.putMap("nextWaypoint", ObjectTranslationUtil.getMapFromWaypoint(nextWaypoint));
+    }
+    if (speedMps != null) {
+      map.putDouble("speedMetersPerSecond", speedMps);
+    }
+    return map;
+  }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+/**
+ * Accumulates odometer distance, moving and stopped time, stop count and speed statistics from a
+ * location stream in constant time per fix.
+ */
+public class TripStatisticsAccumulator {
+  static final float MOVING_SPEED_THRESHOLD_MPS = 1.0f;
+  static final long MIN_STOP_DURATION_MS = 10000;
+
+  private long mFixCount = 0;
+  private long mStartTime;
+  private long mLastTime;
+  private double mLastLat;
+  private double mLastLng;
+
+  private double mDistanceMeters = 0;
+  private long mMovingTimeMs = 0;
+  private long mStoppedTimeMs = 0;
+  private float mMaxSpeedMps = 0;
+  private int mStopCount = 0;
+
+  private boolean mMoving = false;
+  private long mStoppedSince;
+  // Standing still before the first movement does not count as a stop.
+  private boolean mStopCounted = true;
+
+  public synchronized void onLocation(Location location) {
+    long time = location.getTime();
+    double lat = location.getLatitude();
+    double lng = location.getLongitude();
+
+    if (mFixCount == 0) {
+      mStartTime = time;
+    } else {
+      long dt = time - mLastTime;
+      if (dt <= 0) {
+        // Out of order or duplicate fix.
+        return;
+      }
+      double segmentMeters = GeoUtil.distanceMeters(mLastLat, mLastLng, lat, lng);
+      float speed =
+          location.hasSpeed() ? location.getSpeed() : (float) (segmentMeters * 1000 / dt);
+
+      mDistanceMeters += segmentMeters;
+      mMaxSpeedMps = Math.max(mMaxSpeedMps, speed);
+
+      boolean moving = speed >= MOVING_SPEED_THRESHOLD_MPS;
+      if (moving) {
+        mMovingTimeMs += dt;
+      } else {
+        mStoppedTimeMs += dt;
+        if (mMoving) {
+          mStoppedSince = mLastTime;
+          mStopCounted = false;
+        }
+        if (!mStopCounted && time - mStoppedSince >= MIN_STOP_DURATION_MS) {
+          mStopCounted = true;
+          mStopCount++;
+        }
+      }
+      mMoving = moving;
+    }
+
+    mFixCount++;
+    mLastTime = time;
+    mLastLat = lat;
+    mLastLng = lng;
+  }
+
+  public synchronized void reset() {
+    mFixCount = 0;
+    mDistanceMeters = 0;
+    mMovingTimeMs = 0;
+    mStoppedTimeMs = 0;
+    mMaxSpeedMps = 0;
+    mStopCount = 0;
+    mMoving = false;
+    mStopCounted = true;
+  }
+
+  public synchronized WritableMap toMap() {
+    long elapsedTimeMs = mFixCount > 0 ? mLastTime - mStartTime : 0;
+
+    WritableMap map = Arguments.createMap();
+    map.putDouble("distanceMeters", mDistanceMeters);
+    map.putDouble("elapsedTimeMs", elapsedTimeMs);
+    map.putDouble("movingTimeMs", mMovingTimeMs);
+    map.putDouble("stoppedTimeMs", mStoppedTimeMs);
+    map.putInt("stopCount", mStopCount);
+    map.putDouble("maxSpeedMps", mMaxSpeedMps);
+    map.putDouble(
+        "averageSpeedMps", elapsedTimeMs > 0 ? mDistanceMeters * 1000 / elapsedTimeMs : 0);
+    map.putDouble(
+        "averageMovingSpeedMps", mMovingTimeMs > 0 ? mDistanceMeters * 1000 / mMovingTimeMs : 0);
+    map.putDouble("fixCount", mFixCount);
+    if (mFixCount > 0) {
+      map.putDouble("startTime", mStartTime);
+      map.putDouble("lastUpdateTime", mLastTime);
+    }
+    return map;
+  }
+}
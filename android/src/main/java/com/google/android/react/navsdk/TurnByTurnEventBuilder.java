@@ -0,0 +1,193 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Converts {@link NavInfo} updates into {@code onTurnByTurn} event payloads.
+ *
+ * <p>In delta mode, an update only carries the scalar fields that changed since the previously
+ * built event and is flagged with {@code isDelta}. The current step and the remaining steps are
+ * sent in full events only, which are built for the first update, when the route or the navigation
+ * state changed, when the current step advanced, or when a field that was set is no longer
+ * available.
+ *
+ * <p>Full events carry at most the configured number of remaining steps. The complete remaining
+ * step list of the latest update is cached so that it can be paged through with {@link
+ * #getRemainingSteps}. All other methods must be called on the thread that delivers nav info.
+ */
+public class TurnByTurnEventBuilder {
+  private static final String[] SCALAR_KEYS = {
+    "distanceToCurrentStepMeters",
+    "distanceToFinalDestinationMeters",
+    "distanceToNextDestinationMeters",
+    "timeToCurrentStepSeconds",
+    "timeToFinalDestinationSeconds",
+    "timeToNextDestinationSeconds",
+  };
+
+  /** Preview count that sends all remaining steps. */
+  public static final int ALL_STEPS = -1;
+
+  private final StepInfoConversionCache mStepCache;
+  private boolean mDeltaUpdates = false;
+  private int mStepsPreviewCount = ALL_STEPS;
+  private volatile List<StepInfo> mRemainingSteps = Collections.emptyList();
+
+  // State of the previously built event, used in delta mode.
+  private boolean mHasPrevious = false;
+  private int mPreviousNavState;
+  @Nullable private Integer mPreviousStepNumber;
+  private final Integer[] mPreviousScalars = new Integer[SCALAR_KEYS.length];
+  // Step cache route generation seen by the previous update, or -1 before the first update.
+  private int mRouteGeneration = -1;
+
+  public TurnByTurnEventBuilder(StepInfoConversionCache stepCache) {
+    mStepCache = stepCache;
+  }
+
+  /**
+   * @param deltaUpdates whether to build delta events
+   * @param stepsPreviewCount maximum number of remaining steps in full events, or {@link
+   *     #ALL_STEPS}
+   */
+  public void configure(boolean deltaUpdates, int stepsPreviewCount) {
+    mDeltaUpdates = deltaUpdates;
+    mStepsPreviewCount = stepsPreviewCount;
+    reset();
+  }
+
+  /** Makes the next built event a full one. */
+  public void reset() {
+    mHasPrevious = false;
+  }
+
+  public WritableMap build(NavInfo navInfo) {
+    // The route changed listener bumps the step cache generation, which also reveals a route change
+    // reported by an update that was conflated away. The change may then be reported twice.
+    int routeGeneration = mStepCache.getRouteGeneration();
+    boolean routeChanged =
+        navInfo.getRouteChanged() || (mRouteGeneration >= 0 && routeGeneration != mRouteGeneration);
+    if (navInfo.getRouteChanged()) {
+      mStepCache.onRouteChanged();
+      routeGeneration = mStepCache.getRouteGeneration();
+    }
+    mRouteGeneration = routeGeneration;
+    StepInfo[] steps = navInfo.getRemainingSteps();
+    mRemainingSteps =
+        steps != null
+            ? Collections.unmodifiableList(Arrays.asList(steps))
+            : Collections.<StepInfo>emptyList();
+
+    Integer[] scalars = {
+      navInfo.getDistanceToCurrentStepMeters(),
+      navInfo.getDistanceToFinalDestinationMeters(),
+      navInfo.getDistanceToNextDestinationMeters(),
+      navInfo.getTimeToCurrentStepSeconds(),
+      navInfo.getTimeToFinalDestinationSeconds(),
+      navInfo.getTimeToNextDestinationSeconds(),
+    };
+    StepInfo currentStep = navInfo.getCurrentStep();
+    Integer stepNumber = currentStep != null ? currentStep.getStepNumber() : null;
+
+    boolean delta = mDeltaUpdates && isDeltaPossible(navInfo, routeChanged, scalars, stepNumber);
+
+    WritableMap map = Arguments.createMap();
+    map.putInt("navState", navInfo.getNavState());
+    map.putBoolean("routeChanged", routeChanged);
+    for (int i = 0; i < SCALAR_KEYS.length; i++) {
+      if (scalars[i] != null && (!delta || !scalars[i].equals(mPreviousScalars[i]))) {
+        map.putInt(SCALAR_KEYS[i], scalars[i]);
+      }
+    }
+
+    if (mDeltaUpdates) {
+      map.putBoolean("isDelta", delta);
+      mHasPrevious = true;
+      mPreviousNavState = navInfo.getNavState();
+      mPreviousStepNumber = stepNumber;
+      System.arraycopy(scalars, 0, mPreviousScalars, 0, scalars.length);
+    }
+    if (delta) {
+      return map;
+    }
+
+    if (currentStep != null)
+      map.putMap("currentStep", mStepCache.getMap(currentStep));
+
+    List<StepInfo> cachedSteps = mRemainingSteps;
+    int count = cachedSteps.size();
+    if (mStepsPreviewCount != ALL_STEPS) {
+      count = Math.min(count, mStepsPreviewCount);
+    }
+    map.putArray("getRemainingSteps", getStepArray(cachedSteps, 0, count));
+    map.putInt("remainingStepsCount", cachedSteps.size());
+    return map;
+  }
+
+  /**
+   * Returns a page of the remaining steps of the latest update, as {@code { steps, offset,
+   * totalCount }}. Can be called from any thread.
+   *
+   * @param limit maximum number of steps, or a negative value for all steps after the offset
+   */
+  public WritableMap getRemainingSteps(int offset, int limit) {
+    List<StepInfo> cachedSteps = mRemainingSteps;
+    int start = Math.max(0, Math.min(offset, cachedSteps.size()));
+    int count = cachedSteps.size() - start;
+    if (limit >= 0) {
+      count = Math.min(count, limit);
+    }
+    WritableMap map = Arguments.createMap();
+    map.putArray("steps", getStepArray(cachedSteps, start, count));
+    map.putInt("offset", start);
+    map.putInt("totalCount", cachedSteps.size());
+    return map;
+  }
+
+  private WritableArray getStepArray(List<StepInfo> steps, int start, int count) {
+    WritableArray array = Arguments.createArray();
+    for (int i = start; i < start + count; i++) {
+      array.pushMap(mStepCache.getMap(steps.get(i)));
+    }
+    return array;
+  }
+
+  private boolean isDeltaPossible(
+      NavInfo navInfo, boolean routeChanged, Integer[] scalars, Integer stepNumber) {
+    if (!mHasPrevious
+        || routeChanged
+        || navInfo.getNavState() != mPreviousNavState
+        || !Objects.equals(stepNumber, mPreviousStepNumber)) {
+      return false;
+    }
+    // A delta cannot express a field that disappeared.
+    for (int i = 0; i < scalars.length; i++) {
+      if (scalars[i] == null && mPreviousScalars[i] != null) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
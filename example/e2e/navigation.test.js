@@ -106,4 +106,28 @@ describe('Navigation tests', () => {
     await expectNoErrors();
     await expectSuccess();
   });
+
+  it('NT11 - validate waypoints up front and measure waypoint ingestion', async () => {
+    await selectTestByName('testWaypointIngestion');
+    await agreeToTermsAndConditions();
+    await waitForTestToFinish();
+    await expectNoErrors();
+    await expectSuccess();
+  });
+
+  it('NT12 - report a reroute with a full turn-by-turn event in delta mode', async () => {
+    await selectTestByName('testTurnByTurnReroute');
+    await agreeToTermsAndConditions();
+    await waitForTestToFinish(120000);
+    await expectNoErrors();
+    await expectSuccess();
+  });
+
+  it('NT13 - decode packed and encoded route segments to the same points', async () => {
+    await selectTestByName('testRouteGeometryEncodings');
+    await agreeToTermsAndConditions();
+    await waitForTestToFinish();
+    await expectNoErrors();
+    await expectSuccess();
+  });
 });
@@ -37,6 +37,9 @@ export const handleRouteStatus = (routeStatus: RouteStatus): boolean => {
     case RouteStatus.ROUTE_CANCELED:
       Alert.alert('Error', 'Route Cancelled');
       return false;
+    case RouteStatus.SUPERSEDED:
+      // A newer request replaced this one and reports its own status.
+      return false;
     case RouteStatus.NO_ROUTE_FOUND:
       Alert.alert('Error', 'No Route Found');
       return false;
@@ -58,6 +58,9 @@ import {
   testMinMaxZoomLevels,
   testSetFollowingPerspective,
   testNavInfoEventsAfterCleanup,
+  testWaypointIngestion,
+  testTurnByTurnReroute,
+  testRouteGeometryEncodings,
   NO_ERRORS_DETECTED_LABEL,
 } from './integration_tests/integration_test';
 
@@ -327,6 +330,15 @@ const IntegrationTestsScreen = () => {
       case 'testNavInfoEventsAfterCleanup':
         await testNavInfoEventsAfterCleanup(getTestTools());
         break;
+      case 'testWaypointIngestion':
+        await testWaypointIngestion(getTestTools());
+        break;
+      case 'testTurnByTurnReroute':
+        await testTurnByTurnReroute(getTestTools());
+        break;
+      case 'testRouteGeometryEncodings':
+        await testRouteGeometryEncodings(getTestTools());
+        break;
       default:
         resetTestState();
         break;
@@ -563,6 +575,27 @@ const IntegrationTestsScreen = () => {
           }}
           testID="testNavInfoEventsAfterCleanup"
         />
+        <ExampleAppButton
+          title="testWaypointIngestion"
+          onPress={() => {
+            runTest('testWaypointIngestion');
+          }}
+          testID="testWaypointIngestion"
+        />
+        <ExampleAppButton
+          title="testTurnByTurnReroute"
+          onPress={() => {
+            runTest('testTurnByTurnReroute');
+          }}
+          testID="testTurnByTurnReroute"
+        />
+        <ExampleAppButton
+          title="testRouteGeometryEncodings"
+          onPress={() => {
+            runTest('testRouteGeometryEncodings');
+          }}
+          testID="testRouteGeometryEncodings"
+        />
       </OverlayModal>
     </View>
   );
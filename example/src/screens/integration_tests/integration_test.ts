@@ -17,9 +17,12 @@
 import {
   AudioGuidance,
   CameraPerspective,
+  GeometryEncoding,
   TravelMode,
   NavigationSessionStatus,
   RouteStatus,
+  decodePolyline,
+  unpackLatLngs,
   type ArrivalEvent,
   type ContinueToNextDestinationResponse,
   type LatLng,
@@ -29,6 +32,7 @@ import {
   type NavigationViewController,
   type TimeAndDistance,
   type TurnByTurnEvent,
+  type Waypoint,
 } from '@googlemaps/react-native-navigation-sdk';
 import { Platform } from 'react-native';
 import { delay, roundDown } from './utils';
@@ -1972,3 +1976,346 @@ export const testNavInfoEventsAfterCleanup = async (testTools: TestTools) => {
 
   await initializeNavigation(navigationController, failTest);
 };
+
+const TURN_BY_TURN_REROUTE_TIMEOUT_MS = 60000;
+
+/**
+ * Tests that a reroute is reported by a full turn-by-turn event in delta mode
+ * (Android only). Updates are conflated natively, so the route change must
+ * survive even if the update that reported it was replaced by a later one,
+ * otherwise JS would apply deltas against the steps of the old route.
+ */
+export const testTurnByTurnReroute = async (testTools: TestTools) => {
+  const {
+    navigationController,
+    setOnNavigationReady,
+    setOnLocationChanged,
+    setOnTurnByTurn,
+    passTest,
+    failTest,
+  } = testTools;
+
+  // Accept ToS first
+  if (!(await acceptToS(navigationController, failTest))) {
+    return;
+  }
+
+  if (Platform.OS !== 'android') {
+    // Delta turn-by-turn events are only emitted on Android.
+    return passTest();
+  }
+
+  type TurnByTurnPayload = {
+    isDelta?: boolean;
+    routeChanged?: boolean;
+    currentStep?: unknown;
+    getRemainingSteps?: unknown[];
+  };
+
+  const startLocation: LatLng = {
+    lat: 37.79136614772824,
+    lng: -122.41565900473043,
+  };
+  const rerouteDestination = {
+    title: 'Coit Tower',
+    position: {
+      lat: 37.802374,
+      lng: -122.405818,
+    },
+  };
+
+  let phase: 'initial' | 'rerouting' | 'done' = 'initial';
+  const timer = setTimeout(() => {
+    if (phase !== 'done') {
+      const timedOutPhase = phase;
+      phase = 'done';
+      setOnTurnByTurn(null);
+      failTest(`Timed out in phase ${timedOutPhase} waiting for the reroute`);
+    }
+  }, TURN_BY_TURN_REROUTE_TIMEOUT_MS);
+
+  const finish = async (errorMessage?: string) => {
+    phase = 'done';
+    clearTimeout(timer);
+    setOnTurnByTurn(null);
+    try {
+      await navigationController.cleanup();
+    } catch (cleanupError) {
+      console.error('Cleanup failed', cleanupError);
+    }
+    if (errorMessage) {
+      failTest(errorMessage);
+    } else {
+      passTest();
+    }
+  };
+
+  setOnTurnByTurn(async (events: TurnByTurnEvent[]) => {
+    for (const event of events as TurnByTurnPayload[]) {
+      if (phase === 'done') {
+        return;
+      }
+      if (event.routeChanged && event.isDelta) {
+        return finish('A route change was reported by a delta event');
+      }
+      if (phase === 'initial' && event.isDelta) {
+        // Delta events flow for the first route; change the destination.
+        phase = 'rerouting';
+        await navigationController.setDestination(rerouteDestination);
+        await navigationController.simulator.simulateLocationsAlongExistingRoute(
+          { speedMultiplier: 5 }
+        );
+        return;
+      }
+      if (phase === 'rerouting' && event.routeChanged) {
+        if (!event.currentStep || !Array.isArray(event.getRemainingSteps)) {
+          return finish('The route change event does not carry the new steps');
+        }
+        return finish();
+      }
+    }
+  });
+
+  setOnNavigationReady(async () => {
+    disableVoiceGuidanceForTests(navigationController);
+    navigationController.setTurnByTurnLoggingEnabled(true, {
+      deltaUpdates: true,
+      stepsPreviewCount: 3,
+    });
+
+    const located = await simulateAndWaitForLocation(
+      navigationController,
+      setOnLocationChanged,
+      startLocation
+    );
+    if (!located) {
+      return finish(
+        'Timed out waiting for simulated location to be confirmed'
+      );
+    }
+    await navigationController.setDestination(DEFAULT_TEST_WAYPOINT);
+    await navigationController.startGuidance();
+    await navigationController.simulator.simulateLocationsAlongExistingRoute({
+      speedMultiplier: 5,
+    });
+  });
+
+  await initializeNavigation(navigationController, failTest);
+};
+
+const WAYPOINT_INGESTION_BATCH_SIZE = 1000;
+const WAYPOINT_INGESTION_RUNS = 5;
+
+/**
+ * Test that setDestinations validates all waypoints up front and reports
+ * every invalid one by index, and measure the native ingestion cost per
+ * 1,000 waypoints.
+ *
+ * A batch of valid waypoints followed by one invalid waypoint is parsed and
+ * rejected natively before any route request, so the round trip time is the
+ * cost of transferring and parsing the batch.
+ */
+export const testWaypointIngestion = async (testTools: TestTools) => {
+  const { navigationController, setOnNavigationReady, passTest, failTest } =
+    testTools;
+
+  // Accept ToS first
+  if (!(await acceptToS(navigationController, failTest))) {
+    return;
+  }
+
+  const expectInvalidWaypoints = async (
+    waypoints: Waypoint[],
+    expectedIndices: number[]
+  ): Promise<boolean> => {
+    try {
+      await navigationController.setDestinations(waypoints);
+    } catch (error) {
+      const message = error instanceof Error ? error.message : `${error}`;
+      if (extractNativeErrorCode(error) !== 'INVALID_OPTIONS') {
+        failTest(`Unexpected error: ${message}`);
+        return false;
+      }
+      const missing = expectedIndices.filter(
+        index => !message.includes(`index ${index}:`)
+      );
+      if (missing.length > 0) {
+        failTest(`Invalid waypoints not reported: ${missing.join(', ')}`);
+        return false;
+      }
+      return true;
+    }
+    failTest('Expected setDestinations to reject invalid waypoints');
+    return false;
+  };
+
+  setOnNavigationReady(async () => {
+    disableVoiceGuidanceForTests(navigationController);
+
+    const invalidWaypoints: Waypoint[] = [
+      DEFAULT_TEST_WAYPOINT,
+      { title: 'No place ID or position' },
+      { ...DEFAULT_TEST_WAYPOINT, preferredHeading: 400 },
+      { title: 'Out of range', position: { lat: 91, lng: 0 } },
+    ];
+    if (!(await expectInvalidWaypoints(invalidWaypoints, [1, 2, 3]))) {
+      return;
+    }
+
+    const batch: Waypoint[] = [];
+    for (let i = 0; i < WAYPOINT_INGESTION_BATCH_SIZE; i++) {
+      batch.push({
+        title: `Stop ${i}`,
+        position: {
+          lat: DEFAULT_TEST_WAYPOINT.position.lat + i * 1e-5,
+          lng: DEFAULT_TEST_WAYPOINT.position.lng,
+        },
+        vehicleStopover: true,
+      });
+    }
+    batch.push({ title: 'Invalid' });
+
+    let totalMs = 0;
+    for (let run = 0; run < WAYPOINT_INGESTION_RUNS; run++) {
+      const start = Date.now();
+      if (
+        !(await expectInvalidWaypoints(batch, [WAYPOINT_INGESTION_BATCH_SIZE]))
+      ) {
+        return;
+      }
+      totalMs += Date.now() - start;
+    }
+    console.log(
+      `Waypoint ingestion: ${(totalMs / WAYPOINT_INGESTION_RUNS).toFixed(1)} ms per ${WAYPOINT_INGESTION_BATCH_SIZE} waypoints`
+    );
+
+    try {
+      await navigationController.cleanup();
+    } catch (cleanupError) {
+      console.error('Cleanup failed', cleanupError);
+    }
+    passTest();
+  });
+  await initializeNavigation(navigationController, failTest);
+};
+
+const GEOMETRY_ENCODING_TOLERANCE_DEGREES = 1e-5;
+
+/**
+ * Test that route segments requested as PACKED and ENCODED_POLYLINE decode,
+ * with the shared JS helpers, to the same points as OBJECTS, within the
+ * 1e-5 degree precision of encoded polylines.
+ */
+export const testRouteGeometryEncodings = async (testTools: TestTools) => {
+  const {
+    navigationController,
+    setOnNavigationReady,
+    setOnLocationChanged,
+    passTest,
+    failTest,
+  } = testTools;
+
+  // Accept ToS first
+  if (!(await acceptToS(navigationController, failTest))) {
+    return;
+  }
+  const startLocation: LatLng = {
+    lat: 37.79136614772824,
+    lng: -122.41565900473043,
+  };
+
+  const comparePoints = (
+    label: string,
+    expected: LatLng[],
+    actual: LatLng[]
+  ): string | null => {
+    if (actual.length !== expected.length) {
+      return `${label}: ${actual.length} points, expected ${expected.length}`;
+    }
+    for (let i = 0; i < expected.length; i++) {
+      const latError = Math.abs(actual[i]!.lat - expected[i]!.lat);
+      const lngError = Math.abs(actual[i]!.lng - expected[i]!.lng);
+      if (
+        latError > GEOMETRY_ENCODING_TOLERANCE_DEGREES ||
+        lngError > GEOMETRY_ENCODING_TOLERANCE_DEGREES
+      ) {
+        return `${label}: point ${i} is off by ${latError}, ${lngError}`;
+      }
+    }
+    return null;
+  };
+
+  setOnNavigationReady(async () => {
+    disableVoiceGuidanceForTests(navigationController);
+    const located = await simulateAndWaitForLocation(
+      navigationController,
+      setOnLocationChanged,
+      startLocation
+    );
+    if (!located) {
+      return failTest(
+        'Timed out waiting for simulated location to be confirmed'
+      );
+    }
+    await navigationController.setDestination({
+      title: 'Grace Cathedral',
+      position: {
+        lat: 37.791957,
+        lng: -122.412529,
+      },
+    });
+
+    const objectSegments = await waitForCondition(
+      () => navigationController.getRouteSegments(),
+      segments => segments.length > 0
+    );
+    if (!objectSegments) {
+      return failTest('Timed out waiting for route segments');
+    }
+    const packedSegments = await navigationController.getRouteSegments(
+      GeometryEncoding.PACKED
+    );
+    const encodedSegments = await navigationController.getRouteSegments(
+      GeometryEncoding.ENCODED_POLYLINE
+    );
+    if (
+      packedSegments.length !== objectSegments.length ||
+      encodedSegments.length !== objectSegments.length
+    ) {
+      return failTest(
+        `Segment counts differ: ${objectSegments.length} objects, ${packedSegments.length} packed, ${encodedSegments.length} encoded`
+      );
+    }
+
+    for (let i = 0; i < objectSegments.length; i++) {
+      const expected = objectSegments[i]!.segmentLatLngList;
+      const packed = packedSegments[i]!.packedSegmentLatLngs;
+      const encoded = encodedSegments[i]!.encodedPolyline;
+      if (packed === undefined || encoded === undefined) {
+        return failTest(`Segment ${i} is missing its encoded points`);
+      }
+      const error =
+        comparePoints(
+          `Segment ${i} PACKED`,
+          expected,
+          unpackLatLngs(packed)
+        ) ??
+        comparePoints(
+          `Segment ${i} ENCODED_POLYLINE`,
+          expected,
+          decodePolyline(encoded)
+        );
+      if (error !== null) {
+        return failTest(error);
+      }
+    }
+
+    try {
+      await navigationController.cleanup();
+    } catch (cleanupError) {
+      console.error('Cleanup failed', cleanupError);
+    }
+    passTest();
+  });
+  await initializeNavigation(navigationController, failTest);
+};
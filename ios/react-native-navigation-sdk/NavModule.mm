@@ -34,6 +34,25 @@ static NSString *const kNoDestinationsErrorMessage = @"Destinations not set";
   NSMutableArray<GMSNavigationMutableWaypoint *> *_destinations;
   RCTPromiseResolveBlock _pendingInitResolve;
   RCTPromiseRejectBlock _pendingInitReject;
+  // Bumped on every route change; only accessed on the main queue.
+  NSInteger _routeGeneration;
+  // Bumped whenever the traveled path starts over, to invalidate traveled path cursors.
+  NSInteger _traveledPathEpoch;
+  // Whether onRouteChanged includes the route, and in which geometry encoding.
+  BOOL _routeChangedEventIncludesRoute;
+  NSInteger _routeChangedEventEncoding;
+  // Remaining time or distance thresholds and rate limit; only accessed on the main queue.
+  NSTimeInterval _remainingTimeThresholdSeconds;
+  CLLocationDistance _remainingDistanceThresholdMeters;
+  NSTimeInterval _remainingTimeOrDistanceMinInterval;
+  NSTimeInterval _lastRemainingTimeOrDistanceEmitTime;
+  BOOL _remainingTimeOrDistanceEmitPending;
+  // Route request scheduling; only accessed on the main queue.
+  NSInteger _routeRequestGeneration;
+  RCTPromiseResolveBlock _pendingRouteResolve;
+  NSTimeInterval _routeRequestDebounce;
+  // Number of JS subscribers by event name; only accessed on the main queue.
+  NSMutableDictionary<NSString *, NSNumber *> *_navigationListenerSubscribers;
 }
 
 @synthesize enableUpdateInfo = _enableUpdateInfo;
@@ -111,6 +130,8 @@ RCT_EXPORT_MODULE(NavModule);
     [self->_session.navigator removeListener:self];
     [self->_session.navigator addListener:self];
     self->_session.navigator.stopGuidanceAtArrival = NO;
+    self->_session.navigator.timeUpdateThreshold = self->_remainingTimeThresholdSeconds;
+    self->_session.navigator.distanceUpdateThreshold = self->_remainingDistanceThresholdMeters;
   }
 
   [self->_session.roadSnappedLocationProvider removeListener:self];
@@ -272,6 +293,8 @@ RCT_EXPORT_MODULE(NavModule);
       [self->_session.locationSimulator stopSimulation];
     }
 
+    [self supersedeRouteRequestWithResolve:nil];
+    self->_traveledPathEpoch++;
     if (self->_session.navigator != nil) {
       [self->_session.navigator removeListener:self];
       [self->_session.navigator clearDestinations];
@@ -297,12 +320,25 @@ RCT_EXPORT_MODULE(NavModule);
   });
 }
 
-- (void)setTurnByTurnLoggingEnabled:(BOOL)isEnabled {
+- (void)setTurnByTurnLoggingEnabled:(BOOL)isEnabled options:(TurnByTurnOptionsSpec &)options {
+  // Turn-by-turn event options are only supported on Android.
   dispatch_async(dispatch_get_main_queue(), ^{
     self.enableUpdateInfo = isEnabled;
   });
 }
 
+- (void)getRemainingSteps:(double)offset
+                    limit:(double)limit
+                  resolve:(RCTPromiseResolveBlock)resolve
+                   reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Paged remaining steps are only available on Android", nil);
+}
+
+- (void)getStepConversionCacheStats:(RCTPromiseResolveBlock)resolve
+                             reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Step conversion cache stats are only available on Android", nil);
+}
+
 - (void)getCurrentTimeAndDistance:(RCTPromiseResolveBlock)resolve
                            reject:(RCTPromiseRejectBlock)reject {
   dispatch_async(dispatch_get_main_queue(), ^{
@@ -353,6 +389,7 @@ RCT_EXPORT_MODULE(NavModule);
     }
     if (self->_destinations != NULL) {
       navigator.guidanceActive = YES;
+      self->_traveledPathEpoch++;
       [self onStartGuidance];
       navigator.sendsBackgroundNotifications = YES;
       resolve(@(YES));
@@ -401,6 +438,29 @@ RCT_EXPORT_MODULE(NavModule);
   });
 }
 
+- (void)startTraceReplay:(TraceReplaySourceSpec &)source
+                 options:(TraceReplayOptionsSpec &)options
+                 resolve:(RCTPromiseResolveBlock)resolve
+                  reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Trace replay is only available on Android", nil);
+}
+
+- (void)pauseTraceReplay:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Trace replay is only available on Android", nil);
+}
+
+- (void)resumeTraceReplay:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Trace replay is only available on Android", nil);
+}
+
+- (void)stopTraceReplay:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Trace replay is only available on Android", nil);
+}
+
+- (void)getTraceReplayState:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Trace replay is only available on Android", nil);
+}
+
 - (void)clearDestinations:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
   dispatch_async(dispatch_get_main_queue(), ^{
     GMSNavigator *navigator = nil;
@@ -408,8 +468,10 @@ RCT_EXPORT_MODULE(NavModule);
       return;
     }
 
+    [self supersedeRouteRequestWithResolve:nil];
     [navigator clearDestinations];
     self->_destinations = NULL;
+    self->_traveledPathEpoch++;
     resolve(@(YES));
   });
 }
@@ -437,6 +499,91 @@ RCT_EXPORT_MODULE(NavModule);
   });
 }
 
+// Supersedes the latest route request, resolving its promise with SUPERSEDED, and makes the given
+// resolve block the latest one. Returns the generation of the new request. Main queue only.
+- (NSInteger)supersedeRouteRequestWithResolve:(nullable RCTPromiseResolveBlock)resolve {
+  _routeRequestGeneration++;
+  if (_pendingRouteResolve != nil) {
+    _pendingRouteResolve(@"SUPERSEDED");
+  }
+  _pendingRouteResolve = resolve;
+  return _routeRequestGeneration;
+}
+
+- (void)setRouteRequestOptions:(RouteRequestOptionsSpec &)options {
+  auto debounceMsOpt = options.debounceMs();
+  NSTimeInterval debounce = debounceMsOpt.has_value() ? MAX(0, debounceMsOpt.value()) / 1000.0 : 0;
+  dispatch_async(dispatch_get_main_queue(), ^{
+    self->_routeRequestDebounce = debounce;
+  });
+}
+
+- (void)getRouteMetrics:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Route metrics are only available on Android", nil);
+}
+
+- (void)resetRouteMetrics:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Route metrics are only available on Android", nil);
+}
+
+- (void)setRouteMetricsEventEnabled:(BOOL)enabled {
+  // Route metrics are only available on Android.
+}
+
+// The navigator has a single listener, so events without JS subscribers are
+// only skipped before their payload is built.
+- (void)retainNavigationListener:(NSString *)eventName {
+  dispatch_async(dispatch_get_main_queue(), ^{
+    if (self->_navigationListenerSubscribers == nil) {
+      self->_navigationListenerSubscribers = [[NSMutableDictionary alloc] init];
+    }
+    NSInteger count = [self->_navigationListenerSubscribers[eventName] integerValue];
+    self->_navigationListenerSubscribers[eventName] = @(count + 1);
+  });
+}
+
+- (void)releaseNavigationListener:(NSString *)eventName {
+  dispatch_async(dispatch_get_main_queue(), ^{
+    NSInteger count = [self->_navigationListenerSubscribers[eventName] integerValue];
+    if (count > 1) {
+      self->_navigationListenerSubscribers[eventName] = @(count - 1);
+    } else {
+      [self->_navigationListenerSubscribers removeObjectForKey:eventName];
+    }
+  });
+}
+
+- (BOOL)hasNavigationListenerSubscribers:(NSString *)eventName {
+  return [_navigationListenerSubscribers[eventName] integerValue] > 0;
+}
+
+// Returns why the given JS waypoint is invalid, or nil if it is valid.
++ (nullable NSString *)validationErrorForWaypoint:(NSDictionary *)wp {
+  NSNumber *preferredHeading = wp[@"preferredHeading"];
+  if (preferredHeading != nil &&
+      ([preferredHeading doubleValue] < 0 || [preferredHeading doubleValue] >= 360)) {
+    return @"preferredHeading has to be between 0 and 360";
+  }
+  NSString *placeId = wp[@"placeId"];
+  if (placeId && ![placeId isEqual:@""]) {
+    return nil;
+  }
+  NSDictionary *position = wp[@"position"];
+  if (!position) {
+    return @"a placeId or a position is required";
+  }
+  if (![position[@"lat"] isKindOfClass:[NSNumber class]] ||
+      ![position[@"lng"] isKindOfClass:[NSNumber class]]) {
+    return @"position needs a numeric lat and lng";
+  }
+  double lat = [position[@"lat"] doubleValue];
+  double lng = [position[@"lng"] doubleValue];
+  if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+    return [NSString stringWithFormat:@"position is out of range: %g,%g", lat, lng];
+  }
+  return nil;
+}
+
 - (void)setDestinations:(NSArray *)waypoints
          routingOptions:(RoutingOptionsSpec &)routingOptions
          displayOptions:(DisplayOptionsSpec &)displayOptions
@@ -463,6 +610,23 @@ RCT_EXPORT_MODULE(NavModule);
       return;
     }
 
+    // Validate all waypoints before touching the current destinations, so that a single call
+    // reports every invalid waypoint.
+    NSMutableArray<NSString *> *errors = [[NSMutableArray alloc] init];
+    [waypointsCopy enumerateObjectsUsingBlock:^(NSDictionary *wp, NSUInteger index, BOOL *stop) {
+      NSString *error = [NavModule validationErrorForWaypoint:wp];
+      if (error != nil) {
+        [errors
+            addObject:[NSString stringWithFormat:@"index %lu: %@", (unsigned long)index, error]];
+      }
+    }];
+    if (errors.count > 0) {
+      NSString *message = [@"Invalid waypoints: "
+          stringByAppendingString:[errors componentsJoinedByString:@"; "]];
+      reject(@"INVALID_OPTIONS", message, nil);
+      return;
+    }
+
     // Apply display options to views (only if valid flag is set)
     if (displayOptionsCopy.valid().value_or(false)) {
       std::optional<bool> showDestinationMarkers = displayOptionsCopy.showDestinationMarkers();
@@ -508,45 +672,64 @@ RCT_EXPORT_MODULE(NavModule);
       [strongSelf->_destinations addObject:w];
     }
 
+    // Supersede the previous request; a result that still arrives for it is ignored.
+    NSInteger generation = [strongSelf supersedeRouteRequestWithResolve:resolve];
+    NSArray<GMSNavigationMutableWaypoint *> *destinations = [strongSelf->_destinations copy];
+
     void (^routeStatusCallback)(GMSRouteStatus) = ^(GMSRouteStatus routeStatus) {
       __strong __typeof(weakSelf) innerStrongSelf = weakSelf;
-      if (!innerStrongSelf) return;
+      if (!innerStrongSelf || innerStrongSelf->_routeRequestGeneration != generation) return;
+      innerStrongSelf->_pendingRouteResolve = nil;
       // Return the route status string to match codegen RouteStatusSpec enum
       NSString *status = [NavModule routeStatusToString:routeStatus];
       resolve(status);
     };
 
-    // If valid route token options are provided, use route token for navigation
-    if (routeTokenOptionsCopy.valid().value_or(false)) {
-      NSString *routeToken = routeTokenOptionsCopy.routeToken();
-      std::optional<double> travelMode = routeTokenOptionsCopy.travelMode();
-      [strongSelf configureNavigatorWithTravelMode:navigator travelMode:travelMode];
-      [navigator setDestinations:strongSelf->_destinations
-                      routeToken:routeToken
-                        callback:routeStatusCallback];
-    } else if (routingOptionsCopy.valid().value_or(false)) {
-      // Use routing options if valid
-      std::optional<double> travelMode = routingOptionsCopy.travelMode();
-      std::optional<bool> avoidTolls = routingOptionsCopy.avoidTolls();
-      std::optional<bool> avoidFerries = routingOptionsCopy.avoidFerries();
-      std::optional<bool> avoidHighways = routingOptionsCopy.avoidHighways();
-      std::optional<double> routingStrategy = routingOptionsCopy.routingStrategy();
-      std::optional<double> alternateRoutesStrategy = routingOptionsCopy.alternateRoutesStrategy();
-
-      [strongSelf configureNavigatorWithTravelMode:navigator travelMode:travelMode];
-      [strongSelf configureNavigatorWithAvoidOptions:navigator
-                                          avoidTolls:avoidTolls
-                                        avoidFerries:avoidFerries
-                                       avoidHighways:avoidHighways];
-      GMSNavigationRoutingOptions *gmRoutingOptions =
-          [NavModule routingOptionsWithStrategy:routingStrategy
-                        alternateRoutesStrategy:alternateRoutesStrategy];
-      [navigator setDestinations:strongSelf->_destinations
-                  routingOptions:gmRoutingOptions
-                        callback:routeStatusCallback];
+    void (^startRequest)(void) = ^{
+      __strong __typeof(weakSelf) innerStrongSelf = weakSelf;
+      if (!innerStrongSelf || innerStrongSelf->_routeRequestGeneration != generation) return;
+      // If valid route token options are provided, use route token for navigation
+      if (routeTokenOptionsCopy.valid().value_or(false)) {
+        NSString *routeToken = routeTokenOptionsCopy.routeToken();
+        std::optional<double> travelMode = routeTokenOptionsCopy.travelMode();
+        [innerStrongSelf configureNavigatorWithTravelMode:navigator travelMode:travelMode];
+        [navigator setDestinations:destinations
+                        routeToken:routeToken
+                          callback:routeStatusCallback];
+      } else if (routingOptionsCopy.valid().value_or(false)) {
+        // Use routing options if valid
+        std::optional<double> travelMode = routingOptionsCopy.travelMode();
+        std::optional<bool> avoidTolls = routingOptionsCopy.avoidTolls();
+        std::optional<bool> avoidFerries = routingOptionsCopy.avoidFerries();
+        std::optional<bool> avoidHighways = routingOptionsCopy.avoidHighways();
+        std::optional<double> routingStrategy = routingOptionsCopy.routingStrategy();
+        std::optional<double> alternateRoutesStrategy =
+            routingOptionsCopy.alternateRoutesStrategy();
+
+        [innerStrongSelf configureNavigatorWithTravelMode:navigator travelMode:travelMode];
+        [innerStrongSelf configureNavigatorWithAvoidOptions:navigator
+                                                 avoidTolls:avoidTolls
+                                               avoidFerries:avoidFerries
+                                              avoidHighways:avoidHighways];
+        GMSNavigationRoutingOptions *gmRoutingOptions =
+            [NavModule routingOptionsWithStrategy:routingStrategy
+                          alternateRoutesStrategy:alternateRoutesStrategy];
+        [navigator setDestinations:destinations
+                    routingOptions:gmRoutingOptions
+                          callback:routeStatusCallback];
+      } else {
+        // No valid options provided, use defaults
+        [navigator setDestinations:destinations callback:routeStatusCallback];
+      }
+    };
+
+    // Only start the request once no newer one arrived within the debounce window.
+    NSTimeInterval debounce = strongSelf->_routeRequestDebounce;
+    if (debounce > 0) {
+      dispatch_after(dispatch_time(DISPATCH_TIME_NOW, (int64_t)(debounce * NSEC_PER_SEC)),
+                     dispatch_get_main_queue(), startRequest);
     } else {
-      // No valid options provided, use defaults
-      [navigator setDestinations:strongSelf->_destinations callback:routeStatusCallback];
+      startRequest();
     }
   });
 }
@@ -616,7 +799,8 @@ RCT_EXPORT_MODULE(NavModule);
   });
 }
 
-- (void)getCurrentRouteSegment:(RCTPromiseResolveBlock)resolve
+- (void)getCurrentRouteSegment:(double)encoding
+                       resolve:(RCTPromiseResolveBlock)resolve
                         reject:(RCTPromiseRejectBlock)reject {
   dispatch_async(dispatch_get_main_queue(), ^{
     GMSNavigator *navigator = nil;
@@ -630,17 +814,14 @@ RCT_EXPORT_MODULE(NavModule);
       return;
     }
 
-    resolve(@{
-      @"destinationLatLng" : [ObjectTranslationUtil
-          transformCoordinateToDictionary:currentSegment.destinationCoordinate],
-      @"destinationWaypoint" : [ObjectTranslationUtil
-          transformNavigationWaypointToDictionary:currentSegment.destinationWaypoint],
-      @"segmentLatLngList" : [ObjectTranslationUtil transformGMSPathToArray:currentSegment.path]
-    });
+    resolve([ObjectTranslationUtil transformRouteSegmentToDictionary:currentSegment
+                                                     geometryEncoding:(NSInteger)encoding]);
   });
 }
 
-- (void)getRouteSegments:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+- (void)getRouteSegments:(double)encoding
+                 resolve:(RCTPromiseResolveBlock)resolve
+                  reject:(RCTPromiseRejectBlock)reject {
   dispatch_async(dispatch_get_main_queue(), ^{
     GMSNavigator *navigator = nil;
     if (![self checkNavigatorWithError:reject navigator:&navigator]) {
@@ -656,13 +837,104 @@ RCT_EXPORT_MODULE(NavModule);
     NSMutableArray *arr = [[NSMutableArray alloc] init];
 
     for (int i = 0; i < routeSegmentList.count; i++) {
-      [arr addObject:[ObjectTranslationUtil transformRouteSegmentToDictionary:routeSegmentList[i]]];
+      [arr addObject:[ObjectTranslationUtil
+                         transformRouteSegmentToDictionary:routeSegmentList[i]
+                                          geometryEncoding:(NSInteger)encoding]];
     }
 
     resolve(arr);
   });
 }
 
+- (void)getRouteSegmentsIfChanged:(double)knownGeneration
+                         encoding:(double)encoding
+                          resolve:(RCTPromiseResolveBlock)resolve
+                           reject:(RCTPromiseRejectBlock)reject {
+  dispatch_async(dispatch_get_main_queue(), ^{
+    GMSNavigator *navigator = nil;
+    if (![self checkNavigatorWithError:reject navigator:&navigator]) {
+      return;
+    }
+
+    NSInteger generation = self->_routeGeneration;
+    if ((NSInteger)knownGeneration == generation) {
+      resolve(@{@"generation" : @(generation), @"unchanged" : @YES});
+      return;
+    }
+
+    NSMutableArray *arr = [[NSMutableArray alloc] init];
+    for (GMSRouteLeg *routeLeg in navigator.routeLegs) {
+      [arr addObject:[ObjectTranslationUtil transformRouteSegmentToDictionary:routeLeg
+                                                             geometryEncoding:(NSInteger)encoding]];
+    }
+
+    resolve(@{@"generation" : @(generation), @"unchanged" : @NO, @"segments" : arr});
+  });
+}
+
+- (void)setRouteChangedEventOptions:(RouteChangedEventOptionsSpec &)options {
+  BOOL includeRoute = options.includeRoute();
+  auto encodingOpt = options.encoding();
+  // Defaults to JS GeometryEncoding.ENCODED_POLYLINE.
+  NSInteger encoding = encodingOpt.has_value() ? (NSInteger)encodingOpt.value() : 2;
+  dispatch_async(dispatch_get_main_queue(), ^{
+    self->_routeChangedEventIncludesRoute = includeRoute;
+    self->_routeChangedEventEncoding = encoding;
+  });
+}
+
+- (void)setRemainingTimeOrDistanceChangedOptions:
+    (RemainingTimeOrDistanceChangedOptionsSpec &)options {
+  auto timeThresholdOpt = options.timeThresholdSeconds();
+  auto distanceThresholdOpt = options.distanceThresholdMeters();
+  auto minUpdateIntervalOpt = options.minUpdateIntervalMs();
+  NSTimeInterval timeThreshold =
+      timeThresholdOpt.has_value() ? MAX(0, timeThresholdOpt.value()) : 0;
+  CLLocationDistance distanceThreshold =
+      distanceThresholdOpt.has_value() ? MAX(0, distanceThresholdOpt.value()) : 0;
+  NSTimeInterval minUpdateInterval =
+      minUpdateIntervalOpt.has_value() ? MAX(0, minUpdateIntervalOpt.value()) / 1000.0 : 0;
+  dispatch_async(dispatch_get_main_queue(), ^{
+    self->_remainingTimeThresholdSeconds = timeThreshold;
+    self->_remainingDistanceThresholdMeters = distanceThreshold;
+    self->_remainingTimeOrDistanceMinInterval = minUpdateInterval;
+    GMSNavigator *navigator = self->_session.navigator;
+    if (navigator) {
+      navigator.timeUpdateThreshold = timeThreshold;
+      navigator.distanceUpdateThreshold = distanceThreshold;
+    }
+  });
+}
+
+- (void)getRouteGeometry:(RouteGeometryOptionsSpec &)options
+                 resolve:(RCTPromiseResolveBlock)resolve
+                  reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Simplified route geometry is only available on Android", nil);
+}
+
+- (void)setRemainingRouteTrackingEnabled:(BOOL)enabled {
+  // The remaining route is only tracked on Android.
+}
+
+- (void)getRemainingRoute:(double)encoding
+                  resolve:(RCTPromiseResolveBlock)resolve
+                   reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"The remaining route is only available on Android", nil);
+}
+
+- (void)getTrafficAt:(double)offsetMeters
+             resolve:(RCTPromiseResolveBlock)resolve
+              reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Traffic stretches are only available on Android", nil);
+}
+
+- (void)getTrafficRange:(double)fromMeters
+               toMeters:(double)toMeters
+                resolve:(RCTPromiseResolveBlock)resolve
+                 reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Traffic stretches are only available on Android", nil);
+}
+
 - (void)getTraveledPath:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
   dispatch_async(dispatch_get_main_queue(), ^{
     GMSNavigator *navigator = nil;
@@ -680,6 +952,50 @@ RCT_EXPORT_MODULE(NavModule);
   });
 }
 
+- (void)getTraveledPathSince:(double)cursor
+                       epoch:(double)epoch
+                    encoding:(double)encoding
+                     resolve:(RCTPromiseResolveBlock)resolve
+                      reject:(RCTPromiseRejectBlock)reject {
+  dispatch_async(dispatch_get_main_queue(), ^{
+    GMSNavigator *navigator = nil;
+    if (![self checkNavigatorWithError:reject navigator:&navigator]) {
+      return;
+    }
+
+    GMSPath *traveledPath = navigator.traveledPath;
+    NSUInteger count = traveledPath != nil ? traveledPath.count : 0;
+    NSInteger currentEpoch = self->_traveledPathEpoch;
+    NSInteger from = (NSInteger)cursor;
+    // The traveled path restarts with a new guidance session, which bumps the epoch; start over
+    // from its beginning.
+    BOOL reset = (NSInteger)epoch != currentEpoch || from < 0 || from > (NSInteger)count;
+    if (reset) {
+      from = 0;
+    }
+
+    // GeometryEncoding.PACKED
+    BOOL packed = (NSInteger)encoding == 1;
+    NSMutableArray *points = [[NSMutableArray alloc] init];
+    for (NSUInteger i = (NSUInteger)from; i < count; i++) {
+      CLLocationCoordinate2D coordinate = [traveledPath coordinateAtIndex:i];
+      if (packed) {
+        [points addObject:@(coordinate.latitude)];
+        [points addObject:@(coordinate.longitude)];
+      } else {
+        [points addObject:[ObjectTranslationUtil transformCoordinateToDictionary:coordinate]];
+      }
+    }
+
+    resolve(@{
+      @"cursor" : @(count),
+      @"epoch" : @(currentEpoch),
+      @"reset" : @(reset),
+      (packed ? @"packedPoints" : @"points") : points,
+    });
+  });
+}
+
 - (void)setSpeedAlertOptions:(SpeedAlertOptionsSpec &)alertOptions
                      resolve:(RCTPromiseResolveBlock)resolve
                       reject:(RCTPromiseRejectBlock)reject {
@@ -780,13 +1096,66 @@ RCT_EXPORT_MODULE(NavModule);
   });
 }
 
-- (void)startUpdatingLocation:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+- (void)startUpdatingLocation:(LocationStreamingOptionsSpec &)streamingOptions
+                      resolve:(RCTPromiseResolveBlock)resolve
+                       reject:(RCTPromiseRejectBlock)reject {
+  // Batched location streaming is only available on Android; iOS keeps emitting
+  // one onLocationChanged event per fix.
   dispatch_async(dispatch_get_main_queue(), ^{
     [self->_session.roadSnappedLocationProvider startUpdatingLocation];
     resolve(@(YES));
   });
 }
 
+- (void)getLocationHistory:(double)cursor
+                  maxCount:(double)maxCount
+                   resolve:(RCTPromiseResolveBlock)resolve
+                    reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Location history is only available on Android", nil);
+}
+
+- (void)getLocationHistoryStats:(RCTPromiseResolveBlock)resolve
+                         reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Location history is only available on Android", nil);
+}
+
+- (void)addGeofences:(NSArray *)geofences
+             resolve:(RCTPromiseResolveBlock)resolve
+              reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Geofences are only available on Android", nil);
+}
+
+- (void)removeGeofences:(NSArray *)ids
+                resolve:(RCTPromiseResolveBlock)resolve
+                 reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Geofences are only available on Android", nil);
+}
+
+- (void)clearGeofences:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Geofences are only available on Android", nil);
+}
+
+- (void)getTripStatistics:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Trip statistics are only available on Android", nil);
+}
+
+- (void)resetTripStatistics:(RCTPromiseResolveBlock)resolve
+                     reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"Trip statistics are only available on Android", nil);
+}
+
+- (void)setSpeedingEventOptions:(SpeedingEventOptionsSpec &)options {
+  // Speeding events are only available on Android.
+}
+
+- (void)setTripStatisticsUpdateInterval:(double)intervalMs {
+  // Trip statistics are only available on Android.
+}
+
+- (void)setTripProgressUpdateInterval:(double)intervalMs {
+  // Trip progress snapshots are only available on Android.
+}
+
 - (void)stopUpdatingLocation:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
   dispatch_async(dispatch_get_main_queue(), ^{
     [self->_session.roadSnappedLocationProvider stopUpdatingLocation];
@@ -825,6 +1194,9 @@ RCT_EXPORT_MODULE(NavModule);
 
 // Listener to handle arrival events.
 - (void)navigator:(GMSNavigator *)navigator didArriveAtWaypoint:(GMSNavigationWaypoint *)waypoint {
+  if (![self hasNavigationListenerSubscribers:@"onArrival"]) {
+    return;
+  }
   NSMutableDictionary *eventMap = [[NSMutableDictionary alloc] init];
 
   eventMap[@"waypoint"] = [ObjectTranslationUtil transformNavigationWaypointToDictionary:waypoint];
@@ -835,7 +1207,10 @@ RCT_EXPORT_MODULE(NavModule);
 
 // Listener for route change events.
 - (void)navigatorDidChangeRoute:(GMSNavigator *)navigator {
-  [self onRouteChanged];
+  _routeGeneration++;
+  if ([self hasNavigationListenerSubscribers:@"onRouteChanged"]) {
+    [self onRouteChanged];
+  }
 }
 
 // Listener for time to next destination.
@@ -877,9 +1252,33 @@ RCT_EXPORT_MODULE(NavModule);
 }
 
 - (void)onRemainingTimeOrDistanceChangedWithNavigator:(GMSNavigator *)navigator {
+  if (![self hasNavigationListenerSubscribers:@"onRemainingTimeOrDistanceChanged"]) {
+    return;
+  }
+  // Time and distance updates often arrive together; both are limited to one emission per
+  // minimum interval, and a change within the interval is delivered when it ends.
+  if (_remainingTimeOrDistanceEmitPending) {
+    return;
+  }
+  NSTimeInterval wait = _lastRemainingTimeOrDistanceEmitTime +
+                        _remainingTimeOrDistanceMinInterval - CACurrentMediaTime();
+  if (wait > 0) {
+    _remainingTimeOrDistanceEmitPending = YES;
+    dispatch_after(dispatch_time(DISPATCH_TIME_NOW, (int64_t)(wait * NSEC_PER_SEC)),
+                   dispatch_get_main_queue(), ^{
+                     self->_remainingTimeOrDistanceEmitPending = NO;
+                     [self emitRemainingTimeOrDistanceWithNavigator:navigator];
+                   });
+    return;
+  }
+  [self emitRemainingTimeOrDistanceWithNavigator:navigator];
+}
+
+- (void)emitRemainingTimeOrDistanceWithNavigator:(GMSNavigator *)navigator {
   if (!navigator.currentRouteLeg) {
     return;
   }
+  _lastRemainingTimeOrDistanceEmitTime = CACurrentMediaTime();
 
   GMSNavigationDelayCategory severity = navigator.delayCategoryToNextDestination;
   NSTimeInterval time = navigator.timeToNextDestination;
@@ -892,10 +1291,27 @@ RCT_EXPORT_MODULE(NavModule);
 }
 
 - (void)onRouteChanged {
-  [self emitOnRouteChanged];
+  NSMutableDictionary *eventMap = [[NSMutableDictionary alloc] init];
+  eventMap[@"generation"] = @(_routeGeneration);
+
+  NSArray<GMSRouteLeg *> *routeLegs = _session.navigator.routeLegs;
+  if (_routeChangedEventIncludesRoute && routeLegs != nil) {
+    NSMutableArray *segments = [[NSMutableArray alloc] init];
+    for (GMSRouteLeg *routeLeg in routeLegs) {
+      [segments addObject:[ObjectTranslationUtil
+                              transformRouteSegmentToDictionary:routeLeg
+                                               geometryEncoding:_routeChangedEventEncoding]];
+    }
+    eventMap[@"segments"] = segments;
+  }
+
+  [self emitOnRouteChanged:eventMap];
 }
 
 - (void)onReroutingRequestedByOffRoute {
+  if (![self hasNavigationListenerSubscribers:@"onReroutingRequestedByOffRoute"]) {
+    return;
+  }
   [self emitOnReroutingRequestedByOffRoute];
 }
 
@@ -558,6 +558,19 @@ static NavViewModule *sharedInstance = nil;
   }
 }
 
+- (void)setRemainingRoutePolyline:(NSString *)nativeID
+                       polylineId:(NSString *)polylineId
+                          resolve:(RCTPromiseResolveBlock)resolve
+                           reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"The remaining route polyline is only available on Android", nil);
+}
+
+- (void)clearRemainingRoutePolyline:(NSString *)nativeID
+                            resolve:(RCTPromiseResolveBlock)resolve
+                             reject:(RCTPromiseRejectBlock)reject {
+  reject(@"not_supported", @"The remaining route polyline is only available on Android", nil);
+}
+
 - (void)removePolygon:(NSString *)nativeID
                    id:(NSString *)id
               resolve:(RCTPromiseResolveBlock)resolve
@@ -25,6 +25,8 @@
 + (NSDictionary *)transformCoordinateToDictionary:(CLLocationCoordinate2D)coordinate;
 + (NSDictionary *)transformCLLocationToDictionary:(CLLocation *)location;
 + (NSDictionary *)transformRouteSegmentToDictionary:(GMSRouteLeg *)routeLeg;
++ (NSDictionary *)transformRouteSegmentToDictionary:(GMSRouteLeg *)routeLeg
+                                   geometryEncoding:(NSInteger)geometryEncoding;
 + (NSArray *)transformGMSPathToArray:(GMSPath *)path;
 + (NSDictionary *)transformMarkerToDictionary:(GMSMarker *)marker;
 + (NSDictionary *)transformPolylineToDictionary:(GMSPolyline *)polyline;
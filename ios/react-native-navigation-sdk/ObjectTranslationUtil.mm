@@ -75,13 +75,40 @@
 }
 
 + (NSDictionary *)transformRouteSegmentToDictionary:(GMSRouteLeg *)routeLeg {
-  return @{
+  return [ObjectTranslationUtil transformRouteSegmentToDictionary:routeLeg geometryEncoding:0];
+}
+
++ (NSDictionary *)transformRouteSegmentToDictionary:(GMSRouteLeg *)routeLeg
+                                   geometryEncoding:(NSInteger)geometryEncoding {
+  NSMutableDictionary *dictionary = [@{
     @"destinationLatLng" :
         [ObjectTranslationUtil transformCoordinateToDictionary:routeLeg.destinationCoordinate],
     @"destinationWaypoint" : [ObjectTranslationUtil
         transformNavigationWaypointToDictionary:routeLeg.destinationWaypoint],
-    @"segmentLatLngList" : [ObjectTranslationUtil transformGMSPathToArray:routeLeg.path],
-  };
+  } mutableCopy];
+
+  // JS GeometryEncoding values.
+  switch (geometryEncoding) {
+    case 1: {
+      NSMutableArray *packed = [[NSMutableArray alloc] initWithCapacity:routeLeg.path.count * 2];
+      for (NSUInteger j = 0; j < routeLeg.path.count; j++) {
+        CLLocationCoordinate2D coordinate = [routeLeg.path coordinateAtIndex:j];
+        [packed addObject:@(coordinate.latitude)];
+        [packed addObject:@(coordinate.longitude)];
+      }
+      dictionary[@"packedSegmentLatLngs"] = packed;
+      break;
+    }
+    case 2:
+      dictionary[@"encodedPolyline"] = [routeLeg.path encodedPath];
+      break;
+    default:
+      dictionary[@"segmentLatLngList"] =
+          [ObjectTranslationUtil transformGMSPathToArray:routeLeg.path];
+      break;
+  }
+
+  return dictionary;
 }
 
 + (NSDictionary *)transformMarkerToDictionary:(GMSMarker *)marker {
@@ -302,6 +302,12 @@ export const useNavigationAuto = (): UseNavigationAutoResult => {
         return NavAutoModule.removePolyline(id);
       },
 
+      setRemainingRoutePolyline: async () => {
+        throw new Error(
+          'The remaining route polyline is not supported on the auto screen'
+        );
+      },
+
       removePolygon: (id: string) => {
         return NavAutoModule.removePolygon(id);
       },
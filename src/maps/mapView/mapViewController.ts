@@ -159,6 +159,12 @@ export const getMapViewController = (nativeID: string): MapViewController => {
       return await NavViewModule.removePolyline(nativeID, id);
     },
 
+    setRemainingRoutePolyline: async (polylineId: string | null) => {
+      return polylineId !== null
+        ? await NavViewModule.setRemainingRoutePolyline(nativeID, polylineId)
+        : await NavViewModule.clearRemainingRoutePolyline(nativeID);
+    },
+
     removePolygon: async (id: string) => {
       return await NavViewModule.removePolygon(nativeID, id);
     },
@@ -312,6 +312,16 @@ export interface MapViewController {
    */
   removePolyline(id: string): void;
 
+  /**
+   * Makes a polyline follow the part of the route that is not driven yet
+   * (Android only). The polyline is updated natively on every road-snapped
+   * location, without any JS involvement, while location updates are started.
+   *
+   * @param polylineId - The id of a polyline added with `addPolyline`, or
+   *                     null to stop following the route.
+   */
+  setRemainingRoutePolyline(polylineId: string | null): Promise<boolean>;
+
   /**
    * Removes a polygon from the map.
    *
@@ -16,7 +16,7 @@
 
 import type { TurboModule } from 'react-native';
 import { TurboModuleRegistry } from 'react-native';
-import type { RouteSegment, TimeAndDistance } from '../navigation/types';
+import type { EncodedRouteSegment, TimeAndDistance } from '../navigation/types';
 
 import type {
   Float,
@@ -92,10 +92,104 @@ type SpeedAlertOptionsSpec = Readonly<{
   severityUpgradeDurationSeconds: Double;
 }>;
 
+type LocationStreamingOptionsSpec = Readonly<{
+  valid?: WithDefault<boolean, false>;
+  minIntervalMs?: Double;
+  minDistanceMeters?: Double;
+  maxBatchSize?: Double;
+  maxBatchLatencyMs?: Double;
+  encoding?: Double;
+}>;
+
+type PackedLocationsSpec = Readonly<{
+  count: Double;
+  lat: ReadonlyArray<Double>;
+  lng: ReadonlyArray<Double>;
+  time: ReadonlyArray<Double>;
+  speed: ReadonlyArray<Double>;
+  bearing: ReadonlyArray<Double>;
+  accuracy: ReadonlyArray<Double>;
+  altitude: ReadonlyArray<Double>;
+  flags: ReadonlyArray<Double>;
+  providerIndex: ReadonlyArray<Double>;
+  providers: ReadonlyArray<string>;
+}>;
+
+type LocationHistorySpec = Readonly<{
+  locations: PackedLocationsSpec;
+  rawLocations: PackedLocationsSpec;
+  cursor: Double;
+}>;
+
+type LocationHistoryBufferStatsSpec = Readonly<{
+  count: Double;
+  capacity: Double;
+  totalRecorded: Double;
+  dropped: Double;
+  oldestTime?: Double;
+  newestTime?: Double;
+}>;
+
+type LocationHistoryStatsSpec = Readonly<{
+  locations: LocationHistoryBufferStatsSpec;
+  rawLocations: LocationHistoryBufferStatsSpec;
+}>;
+
+type GeofenceSpec = Readonly<{
+  id: string;
+  center?: LatLngSpec;
+  radiusMeters?: Double;
+  polygon?: ReadonlyArray<LatLngSpec>;
+  dwellTimeMs?: Double;
+}>;
+
+type GeofenceEventSpec = Readonly<{
+  geofenceId: string;
+  location: LocationSpec;
+}>;
+
+type TripStatisticsSpec = Readonly<{
+  distanceMeters: Double;
+  elapsedTimeMs: Double;
+  movingTimeMs: Double;
+  stoppedTimeMs: Double;
+  stopCount: Double;
+  maxSpeedMps: Double;
+  averageSpeedMps: Double;
+  averageMovingSpeedMps: Double;
+  fixCount: Double;
+  startTime?: Double;
+  lastUpdateTime?: Double;
+}>;
+
 type LocationSimulationOptionsSpec = Readonly<{
   readonly speedMultiplier: Float;
 }>;
 
+type TraceReplaySourceSpec = Readonly<{
+  path?: string;
+  gpx?: string;
+  base64?: string;
+}>;
+
+type TraceReplayOptionsSpec = Readonly<{
+  speedMultiplier?: Double;
+  loop?: boolean;
+  positionJitterMeters?: Double;
+  timingJitterMs?: Double;
+  seed?: Double;
+  defaultIntervalMs?: Double;
+  maxGapMs?: Double;
+}>;
+
+type TraceReplayStateSpec = Readonly<{
+  state: string;
+  fixCount: Double;
+  index: Double;
+  loopCount: Double;
+  traceDurationMs: Double;
+}>;
+
 type ArrivalEventSpec = Readonly<{
   waypoint: WaypointSpec;
   isFinalDestination?: boolean;
@@ -122,7 +216,15 @@ type TurnByTurnEventSpec = Readonly<{
   timeToNextDestinationSeconds?: Double;
   timeToFinalDestinationSeconds?: Double;
   currentStep?: StepInfoSpec;
-  getRemainingSteps: ReadonlyArray<StepInfoSpec>;
+  getRemainingSteps?: ReadonlyArray<StepInfoSpec>;
+  isDelta?: boolean;
+  remainingStepsCount?: Double;
+}>;
+
+type RemainingStepsPageSpec = Readonly<{
+  steps: ReadonlyArray<StepInfoSpec>;
+  offset: Double;
+  totalCount: Double;
 }>;
 
 type StepInfoSpec = Readonly<{
@@ -145,8 +247,148 @@ enum RouteStatusSpec {
   INVALID_PLACE_ID,
   DUPLICATE_WAYPOINTS_ERROR,
   UNKNOWN,
+  SUPERSEDED,
 }
 
+type StepConversionCacheStatsSpec = Readonly<{
+  hits: Double;
+  misses: Double;
+  size: Double;
+  routeGeneration: Double;
+}>;
+
+type TraveledPathChunkSpec = Readonly<{
+  cursor: Double;
+  epoch: Double;
+  reset: boolean;
+  points?: ReadonlyArray<LatLngSpec>;
+  packedPoints?: ReadonlyArray<Double>;
+}>;
+
+type RouteSegmentsSnapshotSpec = Readonly<{
+  generation: Double;
+  unchanged: boolean;
+  segments?: ReadonlyArray<EncodedRouteSegment>;
+}>;
+
+type RouteGeometryOptionsSpec = Readonly<{
+  toleranceMeters?: Double;
+  zoomLevel?: Double;
+  encoding?: Double;
+}>;
+
+type RouteGeometrySpec = Readonly<{
+  generation: Double;
+  toleranceMeters: Double;
+  originalPointCount: Double;
+  pointCount: Double;
+  points?: ReadonlyArray<LatLngSpec>;
+  packedPoints?: ReadonlyArray<Double>;
+  encodedPolyline?: string;
+}>;
+
+type TrafficStretchSpec = Readonly<{
+  offsetMeters: Double;
+  lengthMeters: Double;
+  style: Double;
+  segmentIndex: Double;
+}>;
+
+type TrafficRangeSpec = Readonly<{
+  fromMeters: Double;
+  toMeters: Double;
+  style: Double;
+}>;
+
+type TrafficUpdateSpec = Readonly<{
+  changedRanges: ReadonlyArray<TrafficRangeSpec>;
+}>;
+
+type SpeedingEventOptionsSpec = Readonly<{
+  downgradeDelayMs?: Double;
+  endDelayMs?: Double;
+}>;
+
+type SpeedingEventSpec = Readonly<{
+  type: string;
+  severity: Double;
+  percentAboveLimit: Double;
+  startTime: Double;
+  durationMs: Double;
+  peakPercentAboveLimit: Double;
+  maxSeverity: Double;
+  majorDurationMs: Double;
+}>;
+
+type RouteRequestOptionsSpec = Readonly<{
+  debounceMs?: Double;
+}>;
+
+type RouteLatencyHistogramSpec = Readonly<{
+  count: Double;
+  meanMs?: Double;
+  p50Ms?: Double;
+  p95Ms?: Double;
+  p99Ms?: Double;
+  maxMs?: Double;
+}>;
+
+type RouteRequestSampleSpec = Readonly<{
+  waypointCount: Double;
+  options: string;
+  status: string;
+  queueMs?: Double;
+  computeMs?: Double;
+  totalMs: Double;
+}>;
+
+type RouteMetricsSpec = Readonly<{
+  supersededCount: Double;
+  queue: RouteLatencyHistogramSpec;
+  compute: RouteLatencyHistogramSpec;
+  total: RouteLatencyHistogramSpec;
+  recent: ReadonlyArray<RouteRequestSampleSpec>;
+}>;
+
+type RouteChangedEventOptionsSpec = Readonly<{
+  includeRoute: boolean;
+  encoding?: Double;
+}>;
+
+type RemainingTimeOrDistanceChangedOptionsSpec = Readonly<{
+  timeThresholdSeconds?: Double;
+  distanceThresholdMeters?: Double;
+  minUpdateIntervalMs?: Double;
+}>;
+
+type RouteChangedEventSpec = Readonly<{
+  generation: Double;
+  segments?: ReadonlyArray<EncodedRouteSegment>;
+}>;
+
+type RemainingRouteSpec = Readonly<{
+  tracking: boolean;
+  distanceAlongRouteMeters: Double;
+  remainingDistanceMeters: Double;
+  points?: ReadonlyArray<LatLngSpec>;
+  packedPoints?: ReadonlyArray<Double>;
+  encodedPolyline?: string;
+}>;
+
+type TripProgressSpec = Readonly<{
+  timeAndDistance?: TimeAndDistanceSpec;
+  currentStep?: StepInfoSpec;
+  distanceToCurrentStepMeters?: Double;
+  nextWaypoint?: WaypointSpec;
+  speedMetersPerSecond?: Double;
+}>;
+
+type TurnByTurnOptionsSpec = Readonly<{
+  valid?: WithDefault<boolean, false>;
+  deltaUpdates?: boolean;
+  stepsPreviewCount?: Double;
+}>;
+
 type TermsAndConditionsUIParamsSpec = Readonly<{
   valid?: WithDefault<boolean, false>;
   backgroundColor?: Double;
@@ -179,22 +421,74 @@ export interface Spec extends TurboModule {
     displayOptions: DisplayOptionsSpec,
     routeTokenOptions: RouteTokenOptionsSpec
   ): Promise<RouteStatusSpec>;
+  setRouteRequestOptions(options: RouteRequestOptionsSpec): void;
+  retainNavigationListener(eventName: string): void;
+  releaseNavigationListener(eventName: string): void;
+  getRouteMetrics(): Promise<RouteMetricsSpec>;
+  resetRouteMetrics(): Promise<void>;
+  setRouteMetricsEventEnabled(enabled: boolean): void;
   continueToNextDestination(): Promise<ContinueToNextDestinationResponseSpec>;
   clearDestinations(): Promise<void>;
   startGuidance(): Promise<void>;
   stopGuidance(): Promise<void>;
   setSpeedAlertOptions(alertOptions: SpeedAlertOptionsSpec): Promise<void>;
+  setSpeedingEventOptions(options: SpeedingEventOptionsSpec): void;
   setAbnormalTerminatingReportingEnabled(enabled: boolean): void;
   setAudioGuidanceType(index: Double): Promise<void>;
   setBackgroundLocationUpdatesEnabled(isEnabled: boolean): void;
-  setTurnByTurnLoggingEnabled(isEnabled: boolean): void;
-  getCurrentRouteSegment(): Promise<RouteSegment>;
-  getRouteSegments(): Promise<RouteSegment[]>;
+  setTurnByTurnLoggingEnabled(
+    isEnabled: boolean,
+    options: TurnByTurnOptionsSpec
+  ): void;
+  getRemainingSteps(
+    offset: Double,
+    limit: Double
+  ): Promise<RemainingStepsPageSpec>;
+  getStepConversionCacheStats(): Promise<StepConversionCacheStatsSpec>;
+  getCurrentRouteSegment(encoding: Double): Promise<EncodedRouteSegment>;
+  getRouteSegments(encoding: Double): Promise<EncodedRouteSegment[]>;
+  getRouteSegmentsIfChanged(
+    knownGeneration: Double,
+    encoding: Double
+  ): Promise<RouteSegmentsSnapshotSpec>;
+  setRouteChangedEventOptions(options: RouteChangedEventOptionsSpec): void;
+  setRemainingTimeOrDistanceChangedOptions(
+    options: RemainingTimeOrDistanceChangedOptionsSpec
+  ): void;
+  getRouteGeometry(
+    options: RouteGeometryOptionsSpec
+  ): Promise<RouteGeometrySpec>;
+  setRemainingRouteTrackingEnabled(enabled: boolean): void;
+  getRemainingRoute(encoding: Double): Promise<RemainingRouteSpec>;
+  getTrafficAt(offsetMeters: Double): Promise<TrafficStretchSpec>;
+  getTrafficRange(
+    fromMeters: Double,
+    toMeters: Double
+  ): Promise<TrafficStretchSpec[]>;
   getCurrentTimeAndDistance(): Promise<TimeAndDistance>;
   getTraveledPath(): Promise<LatLng[]>;
+  getTraveledPathSince(
+    cursor: Double,
+    epoch: Double,
+    encoding: Double
+  ): Promise<TraveledPathChunkSpec>;
   getNavSDKVersion(): Promise<string>;
   stopUpdatingLocation(): Promise<void>;
-  startUpdatingLocation(): Promise<void>;
+  startUpdatingLocation(
+    streamingOptions: LocationStreamingOptionsSpec
+  ): Promise<void>;
+  getLocationHistory(
+    cursor: Double,
+    maxCount: Double
+  ): Promise<LocationHistorySpec>;
+  getLocationHistoryStats(): Promise<LocationHistoryStatsSpec>;
+  addGeofences(geofences: GeofenceSpec[]): Promise<void>;
+  removeGeofences(ids: string[]): Promise<void>;
+  clearGeofences(): Promise<void>;
+  getTripStatistics(): Promise<TripStatisticsSpec>;
+  resetTripStatistics(): Promise<void>;
+  setTripStatisticsUpdateInterval(intervalMs: Double): void;
+  setTripProgressUpdateInterval(intervalMs: Double): void;
   simulateLocation(location: LatLngSpec): Promise<void>;
   resumeLocationSimulation(): Promise<void>;
   pauseLocationSimulation(): Promise<void>;
@@ -202,6 +496,14 @@ export interface Spec extends TurboModule {
     options: LocationSimulationOptionsSpec
   ): Promise<void>;
   stopLocationSimulation(): Promise<void>;
+  startTraceReplay(
+    source: TraceReplaySourceSpec,
+    options: TraceReplayOptionsSpec
+  ): Promise<TraceReplayStateSpec>;
+  pauseTraceReplay(): Promise<void>;
+  resumeTraceReplay(): Promise<void>;
+  stopTraceReplay(): Promise<void>;
+  getTraceReplayState(): Promise<TraceReplayStateSpec>;
 
   // Event emitters
   onLocationChanged: EventEmitter<{ location: LocationSpec }>;
@@ -209,14 +511,29 @@ export interface Spec extends TurboModule {
   onRemainingTimeOrDistanceChanged: EventEmitter<{
     timeAndDistance: TimeAndDistanceSpec;
   }>;
-  onRouteChanged: EventEmitter<void>;
+  onRouteChanged: EventEmitter<RouteChangedEventSpec>;
   onReroutingRequestedByOffRoute: EventEmitter<void>;
   onStartGuidance: EventEmitter<void>;
   onTurnByTurn: EventEmitter<{
     turnByTurnEvents: ReadonlyArray<TurnByTurnEventSpec>;
   }>;
   onRawLocationChanged: EventEmitter<{ location: LocationSpec }>; // Android only
-  onTrafficUpdated: EventEmitter<void>; // Android only
+  onTrafficUpdated: EventEmitter<TrafficUpdateSpec>; // Android only
+  onLocationBatch: EventEmitter<{
+    locations?: ReadonlyArray<LocationSpec>;
+    rawLocations?: ReadonlyArray<LocationSpec>;
+    packedLocations?: PackedLocationsSpec;
+    packedRawLocations?: PackedLocationsSpec;
+  }>; // Android only
+  onGeofenceEnter: EventEmitter<GeofenceEventSpec>; // Android only
+  onGeofenceExit: EventEmitter<GeofenceEventSpec>; // Android only
+  onGeofenceDwell: EventEmitter<GeofenceEventSpec>; // Android only
+  onTripStatisticsUpdated: EventEmitter<{
+    tripStatistics: TripStatisticsSpec;
+  }>; // Android only
+  onTripProgress: EventEmitter<TripProgressSpec>; // Android only
+  onRouteRequestCompleted: EventEmitter<RouteRequestSampleSpec>; // Android only
+  onSpeeding: EventEmitter<SpeedingEventSpec>; // Android only
   logDebugInfo: EventEmitter<{ message: string }>;
 }
 
@@ -158,6 +158,11 @@ export interface Spec extends TurboModule {
   clearMapView(nativeID: string): Promise<boolean>;
   removeMarker(nativeID: string, id: string): Promise<boolean>;
   removePolyline(nativeID: string, id: string): Promise<boolean>;
+  setRemainingRoutePolyline(
+    nativeID: string,
+    polylineId: string
+  ): Promise<boolean>;
+  clearRemainingRoutePolyline(nativeID: string): Promise<boolean>;
   removePolygon(nativeID: string, id: string): Promise<boolean>;
   removeCircle(nativeID: string, id: string): Promise<boolean>;
   removeGroundOverlay(nativeID: string, id: string): Promise<boolean>;
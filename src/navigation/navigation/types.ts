@@ -14,13 +14,17 @@
  * limitations under the License.
  */
 
-import type { LatLng, Location } from '../../shared/types';
+import type { LatLng, Location, PackedLocations } from '../../shared/types';
 import type {
   AlternateRoutingStrategy,
   AudioGuidance,
+  EncodedRouteSegment,
   RouteSegment,
   RouteStatus,
   RoutingStrategy,
+  SpeedAlertSeverity,
+  SpeedingEventType,
+  Style,
   TimeAndDistance,
   TravelMode,
   Waypoint,
@@ -159,6 +163,46 @@ export interface SpeedAlertOptions {
   severityUpgradeDurationSeconds: number;
 }
 
+/** Options for the `onSpeeding` event (Android only). */
+export interface SpeedingEventOptions {
+  /**
+   * How long in milliseconds a lower severity must hold before the episode
+   * is downgraded, for example from major to minor speeding. Defaults to
+   * 2000.
+   */
+  downgradeDelayMs?: number;
+  /**
+   * How long in milliseconds the driver must not be speeding before the
+   * episode ends. Defaults to 2000.
+   */
+  endDelayMs?: number;
+}
+
+/**
+ * A change of a speeding episode (Android only). The aggregates cover the
+ * episode so far.
+ */
+export interface SpeedingEvent {
+  type: SpeedingEventType;
+  /** The severity after the change; `NONE` when the episode ended. */
+  severity: SpeedAlertSeverity;
+  /** The latest percentage above the speed limit. */
+  percentAboveLimit: number;
+  /** Timestamp in milliseconds at which the episode started. */
+  startTime: number;
+  /**
+   * Duration of the episode in milliseconds. For an ended episode, up to
+   * when the driver stopped speeding.
+   */
+  durationMs: number;
+  /** The highest percentage above the speed limit during the episode. */
+  peakPercentAboveLimit: number;
+  /** The highest severity during the episode. */
+  maxSeverity: SpeedAlertSeverity;
+  /** Time in milliseconds spent at `MAJOR` severity during the episode. */
+  majorDurationMs: number;
+}
+
 /**
  * Defines options that can be used to customize the "Terms and conditions"
  * dialog for the Navigation sdk.
@@ -206,12 +250,603 @@ export interface ArrivalEvent {
   isFinalDestination?: boolean;
 }
 
+/**
+ * Defines how batched locations are encoded.
+ */
+export enum LocationEncoding {
+  /** One `Location` object per fix. */
+  OBJECTS = 0,
+  /**
+   * Column arrays shared by all fixes of a batch, see `PackedLocations`.
+   * Recommended for high-rate consumers.
+   */
+  PACKED,
+}
+
+/**
+ * Encoding of route and path geometry returned by the native module.
+ */
+export enum GeometryEncoding {
+  /** One `LatLng` object per point. This is the default. */
+  OBJECTS = 0,
+  /**
+   * A flat `[lat0, lng0, lat1, lng1, ...]` number array. Recommended for long
+   * paths.
+   */
+  PACKED,
+  /**
+   * A Google encoded polyline string with 1e-5 degree precision. The most
+   * compact encoding, supported for route segments.
+   */
+  ENCODED_POLYLINE,
+}
+
+/**
+ * Options that switch location updates to a throttled, batched stream (Android only).
+ *
+ * When provided to `startUpdatingLocation`, road-snapped and raw fixes are no
+ * longer emitted one by one through `onLocationChanged` and
+ * `onRawLocationChanged`. Instead, fixes that pass the interval and distance
+ * filters are collected and delivered together through `onLocationBatch`.
+ */
+export interface LocationStreamingOptions {
+  /**
+   * Minimum time in milliseconds between two accepted fixes of the same
+   * stream. Defaults to 0.
+   */
+  minIntervalMs?: number;
+  /**
+   * Minimum distance in meters between two accepted fixes of the same stream.
+   * Defaults to 0.
+   */
+  minDistanceMeters?: number;
+  /**
+   * Number of accepted fixes in either stream that triggers delivery of a
+   * batch. Defaults to 10.
+   */
+  maxBatchSize?: number;
+  /**
+   * Maximum time in milliseconds an accepted fix waits before its batch is
+   * delivered, even if the batch is not full. Defaults to 1000.
+   */
+  maxBatchLatencyMs?: number;
+  /**
+   * How the fixes of a batch are encoded. Defaults to `LocationEncoding.OBJECTS`.
+   */
+  encoding?: LocationEncoding;
+}
+
+/**
+ * A batch of location fixes delivered by the location stream when
+ * `LocationStreamingOptions` are in use.
+ */
+export interface LocationBatch {
+  /**
+   * Accepted road-snapped fixes, oldest first. Set when the encoding is
+   * `LocationEncoding.OBJECTS`.
+   */
+  locations?: Location[];
+  /**
+   * Accepted raw fixes, oldest first. Set when the encoding is
+   * `LocationEncoding.OBJECTS`.
+   */
+  rawLocations?: Location[];
+  /**
+   * Accepted road-snapped fixes, oldest first. Set when the encoding is
+   * `LocationEncoding.PACKED`.
+   */
+  packedLocations?: PackedLocations;
+  /**
+   * Accepted raw fixes, oldest first. Set when the encoding is
+   * `LocationEncoding.PACKED`.
+   */
+  packedRawLocations?: PackedLocations;
+}
+
+/**
+ * Fixes recorded by the native location history (Android only).
+ */
+export interface LocationHistory {
+  /** Road-snapped fixes, oldest first. */
+  locations: PackedLocations;
+  /** Raw fixes, oldest first. */
+  rawLocations: PackedLocations;
+  /** Cursor to pass to the next `getLocationHistory` call. */
+  cursor: number;
+}
+
+/**
+ * Fill level of one of the native location history buffers.
+ */
+export interface LocationHistoryBufferStats {
+  /** Number of fixes currently held. */
+  count: number;
+  /** Maximum number of fixes held before the oldest ones are overwritten. */
+  capacity: number;
+  /** Number of fixes recorded since the navigation session was started. */
+  totalRecorded: number;
+  /** Number of fixes overwritten because the buffer was full. */
+  dropped: number;
+  /** Timestamp in milliseconds of the oldest fix held, if any. */
+  oldestTime?: number;
+  /** Timestamp in milliseconds of the newest fix held, if any. */
+  newestTime?: number;
+}
+
+/**
+ * Statistics of the native location history (Android only).
+ */
+export interface LocationHistoryStats {
+  /** Road-snapped location buffer. */
+  locations: LocationHistoryBufferStats;
+  /** Raw location buffer. */
+  rawLocations: LocationHistoryBufferStats;
+}
+
+/**
+ * A geofence evaluated natively against road-snapped locations (Android only).
+ *
+ * Either `center` and `radiusMeters` or `polygon` must be provided.
+ */
+export interface Geofence {
+  /** Identifier reported in geofence events. Adding an existing id replaces it. */
+  id: string;
+  /** Center of a circular geofence. */
+  center?: LatLng;
+  /** Radius in meters of a circular geofence. */
+  radiusMeters?: number;
+  /** Vertices of a polygonal geofence, at least three. */
+  polygon?: LatLng[];
+  /**
+   * Time in milliseconds after entering the geofence at which
+   * `onGeofenceDwell` is emitted. Dwell events are disabled when not set.
+   */
+  dwellTimeMs?: number;
+}
+
+/** A geofence transition. */
+export interface GeofenceEvent {
+  /** The id of the geofence that was entered, exited or dwelled in. */
+  geofenceId: string;
+  /** The road-snapped location that triggered the transition. */
+  location: Location;
+}
+
+/**
+ * Trip statistics accumulated natively from road-snapped locations (Android
+ * only).
+ */
+export interface TripStatistics {
+  /** Distance traveled in meters. */
+  distanceMeters: number;
+  /** Time in milliseconds between the first and the latest fix. */
+  elapsedTimeMs: number;
+  /** Time in milliseconds spent moving. */
+  movingTimeMs: number;
+  /** Time in milliseconds spent standing still. */
+  stoppedTimeMs: number;
+  /** Number of stops of at least 10 seconds after the user started moving. */
+  stopCount: number;
+  /** Highest speed in meters per second. */
+  maxSpeedMps: number;
+  /** Distance divided by elapsed time, in meters per second. */
+  averageSpeedMps: number;
+  /** Distance divided by moving time, in meters per second. */
+  averageMovingSpeedMps: number;
+  /** Number of fixes accumulated. */
+  fixCount: number;
+  /** Timestamp in milliseconds of the first fix, if any. */
+  startTime?: number;
+  /** Timestamp in milliseconds of the latest fix, if any. */
+  lastUpdateTime?: number;
+}
+
+/**
+ * A snapshot of the trip progress, merging the remaining time and distance,
+ * the current step, the next waypoint and the current speed (Android only).
+ * Fields are omitted while they are not available.
+ */
+export interface TripProgress {
+  /** The remaining time and distance to the next destination. */
+  timeAndDistance?: TimeAndDistance;
+  /** The step the user is currently driving towards. */
+  currentStep?: StepInfo;
+  /** Distance in meters to the current step. */
+  distanceToCurrentStepMeters?: number;
+  /** The destination of the current route segment. */
+  nextWaypoint?: Waypoint;
+  /** Speed of the latest road-snapped location, in meters per second. */
+  speedMetersPerSecond?: number;
+}
+
+/**
+ * Options for turn-by-turn events (Android only).
+ */
+export interface TurnByTurnOptions {
+  /**
+   * Emit delta events. When enabled, each turn-by-turn event has an `isDelta`
+   * flag. Delta events only carry `navState`, `routeChanged` and the scalar
+   * time and distance fields that changed since the previous event. Full
+   * events, which also carry `currentStep` and `getRemainingSteps`, are sent
+   * for the first update, when the route or navigation state changes, and
+   * when the current step advances. Defaults to false.
+   */
+  deltaUpdates?: boolean;
+  /**
+   * Maximum number of remaining steps carried by full turn-by-turn events.
+   * Full events also report the total as `remainingStepsCount`, and the
+   * remaining steps can be paged through with `getRemainingSteps`. Defaults
+   * to all steps.
+   */
+  stepsPreviewCount?: number;
+}
+
+/**
+ * A step of the route, as reported in turn-by-turn events (Android only).
+ */
+export interface StepInfo {
+  /** Distance in meters from the previous step to this step. */
+  distanceFromPrevStepMeters: number;
+  /** Time in seconds from the previous step to this step. */
+  timeFromPrevStepSeconds: number;
+  /** The side of the road the user drives on for this step. */
+  drivingSide: number;
+  /** The index of the step in the list of all steps of the route. */
+  stepNumber: number;
+  /** The maneuver of the step. */
+  maneuver: number;
+  /** The number of the roundabout exit to take, if any. */
+  roundaboutTurnNumber: number;
+  /** The exit number, if any. */
+  exitNumber?: string;
+  /** The full name of the road of the step. */
+  fullRoadName?: string;
+  /** The full instruction text of the step. */
+  instruction?: string;
+}
+
+/**
+ * A page of the remaining steps of the latest turn-by-turn update (Android
+ * only).
+ */
+export interface RemainingStepsPage {
+  /** The requested steps, next step first. */
+  steps: StepInfo[];
+  /** The index of the first returned step among the remaining steps. */
+  offset: number;
+  /** The total number of remaining steps. */
+  totalCount: number;
+}
+
+/**
+ * Counters of the native cache of converted turn-by-turn steps (Android only).
+ */
+export interface StepConversionCacheStats {
+  /** Number of steps served from the cache. */
+  hits: number;
+  /** Number of steps that had to be converted. */
+  misses: number;
+  /** Number of steps currently cached. */
+  size: number;
+  /** Incremented on every route change, which invalidates the cache. */
+  routeGeneration: number;
+}
+
+/**
+ * The part of the traveled path recorded since a cursor.
+ */
+export interface TraveledPathChunk {
+  /** Cursor to pass to the next `getTraveledPathSince` call. */
+  cursor: number;
+  /**
+   * Epoch of the traveled path to pass to the next `getTraveledPathSince`
+   * call. It changes whenever the path starts over, on `startGuidance`,
+   * `clearDestinations` and `cleanup`.
+   */
+  epoch: number;
+  /**
+   * True if the given cursor did not match the traveled path, for example
+   * after a new guidance session started. The chunk then starts at the
+   * beginning of the path and previously received points should be dropped.
+   */
+  reset: boolean;
+  /** The new points. Set when the encoding is `GeometryEncoding.OBJECTS`. */
+  points?: LatLng[];
+  /**
+   * The new points as `[lat0, lng0, lat1, lng1, ...]`. Set when the encoding
+   * is `GeometryEncoding.PACKED`.
+   */
+  packedPoints?: number[];
+}
+
+/**
+ * Result of `getRouteSegmentsIfChanged`.
+ */
+export interface RouteSegmentsSnapshot {
+  /**
+   * Generation of the current route. It changes whenever the route or, on
+   * Android, its traffic data changes.
+   */
+  generation: number;
+  /** True if the route is still at the generation the caller passed. */
+  unchanged: boolean;
+  /** The segments of the current route. Only set when `unchanged` is false. */
+  segments?: EncodedRouteSegment[];
+}
+
+/**
+ * Options for `getRouteGeometry`. Set either `toleranceMeters` or
+ * `zoomLevel`; if neither is set, the full resolution route is returned.
+ */
+export interface RouteGeometryOptions {
+  /** Maximum deviation of the simplified route from the full route. */
+  toleranceMeters?: number;
+  /**
+   * Map zoom level the route will be drawn at. The tolerance is derived from
+   * the size of a screen pixel at that zoom level.
+   */
+  zoomLevel?: number;
+  /** How the points are encoded. Defaults to `GeometryEncoding.OBJECTS`. */
+  encoding?: GeometryEncoding;
+}
+
+/** The simplified geometry of the whole current route. */
+export interface RouteGeometry {
+  /** Generation of the route the geometry was computed for. */
+  generation: number;
+  /** The tolerance that was applied, in meters. */
+  toleranceMeters: number;
+  /** Number of points of the full resolution route. */
+  originalPointCount: number;
+  /** Number of points of the simplified route. */
+  pointCount: number;
+  /** The points. Set when the encoding is `GeometryEncoding.OBJECTS`. */
+  points?: LatLng[];
+  /**
+   * The points as `[lat0, lng0, lat1, lng1, ...]`. Set when the encoding is
+   * `GeometryEncoding.PACKED`.
+   */
+  packedPoints?: number[];
+  /**
+   * The points as a Google encoded polyline. Set when the encoding is
+   * `GeometryEncoding.ENCODED_POLYLINE`.
+   */
+  encodedPolyline?: string;
+}
+
+/**
+ * A traffic road stretch, positioned by its distance along the whole route
+ * rather than along its segment.
+ */
+export interface TrafficStretch {
+  /** Distance from the start of the route to the start of the stretch. */
+  offsetMeters: number;
+  lengthMeters: number;
+  style: Style;
+  /** Index of the route segment the stretch belongs to. */
+  segmentIndex: number;
+}
+
+/** A distance range along the route whose traffic style changed. */
+export interface TrafficRange {
+  fromMeters: number;
+  toMeters: number;
+  /** The new style of the range, or -1 if it no longer has traffic. */
+  style: Style | -1;
+}
+
+/** Payload of the `onTrafficUpdated` callback. */
+export interface TrafficUpdate {
+  /**
+   * The ranges whose traffic style changed since the previous update. After
+   * a route change, every stretch of the new route is reported.
+   */
+  changedRanges: TrafficRange[];
+}
+
+/** Options for scheduling `setDestinations` route requests. */
+export interface RouteRequestOptions {
+  /**
+   * How long in milliseconds a request waits for a newer one before its
+   * route is computed. During a burst of `setDestinations` calls, only the
+   * last one is computed. Defaults to 0, which starts every request
+   * immediately.
+   */
+  debounceMs?: number;
+}
+
+/** Latency percentiles of one phase of route requests, in milliseconds. */
+export interface RouteLatencyHistogram {
+  /** Number of recorded requests. */
+  count: number;
+  /** Mean latency; omitted while no request was recorded. */
+  meanMs?: number;
+  /**
+   * Median latency. Percentiles come from logarithmic buckets, four per
+   * doubling, and are accurate to about 19%.
+   */
+  p50Ms?: number;
+  /** 95th percentile latency. */
+  p95Ms?: number;
+  /** 99th percentile latency. */
+  p99Ms?: number;
+  /** Maximum latency. */
+  maxMs?: number;
+}
+
+/** Timing of a single `setDestinations` request, in milliseconds. */
+export interface RouteRequestSample {
+  /** Number of waypoints of the request. */
+  waypointCount: number;
+  /** Routing options of the request. */
+  options: 'default' | 'routingOptions' | 'routeToken';
+  /** The route status the request resolved with. */
+  status: RouteStatus;
+  /** Time from the call to the start of the route computation. */
+  queueMs?: number;
+  /** Time the SDK took to compute the route. */
+  computeMs?: number;
+  /** Time from the call to the resolved promise. */
+  totalMs: number;
+}
+
+/** Latency of `setDestinations` requests since the last reset. */
+export interface RouteMetrics {
+  /** Number of requests superseded by a newer request. */
+  supersededCount: number;
+  /** Time from the call to the start of the route computation. */
+  queue: RouteLatencyHistogram;
+  /** Time the SDK took to compute the route. */
+  compute: RouteLatencyHistogram;
+  /** Time from the call to the resolved promise. */
+  total: RouteLatencyHistogram;
+  /** The most recent requests, oldest first, including superseded ones. */
+  recent: RouteRequestSample[];
+}
+
+/** Options for the `onRouteChanged` event. */
+export interface RouteChangedEventOptions {
+  /**
+   * Whether the event includes the segments of the new route, so listeners
+   * do not need to call `getRouteSegments` after a reroute.
+   */
+  includeRoute: boolean;
+  /**
+   * How the points of the included segments are encoded. Defaults to
+   * `GeometryEncoding.ENCODED_POLYLINE`.
+   */
+  encoding?: GeometryEncoding;
+}
+
+/** Options for the `onRemainingTimeOrDistanceChanged` callback. */
+export interface RemainingTimeOrDistanceChangedOptions {
+  /**
+   * Minimum change of the remaining time, in seconds, before the callback is
+   * invoked. Defaults to 0, notifying on every change.
+   */
+  timeThresholdSeconds?: number;
+  /**
+   * Minimum change of the remaining distance, in meters, before the callback
+   * is invoked. Defaults to 0, notifying on every change.
+   */
+  distanceThresholdMeters?: number;
+  /**
+   * Minimum time between two callbacks, in milliseconds. A change within
+   * this interval is delivered when it ends, with the values current at that
+   * time. Defaults to 0, which disables rate limiting.
+   */
+  minUpdateIntervalMs?: number;
+}
+
+/** Payload of the `onRouteChanged` callback. */
+export interface RouteChangedEvent {
+  /**
+   * Generation of the new route, matching `RouteSegmentsSnapshot.generation`
+   * of `getRouteSegmentsIfChanged`.
+   */
+  generation: number;
+  /**
+   * The segments of the new route, with their destinations. Only set if
+   * enabled with `setRouteChangedEventOptions`.
+   */
+  segments?: EncodedRouteSegment[];
+}
+
+/** The part of the route that is not driven yet. */
+export interface RemainingRoute {
+  /**
+   * True once a road-snapped location has been matched to the current
+   * route. The route is only tracked while enabled with
+   * `setRemainingRouteTrackingEnabled` or while a polyline follows it.
+   */
+  tracking: boolean;
+  /** Distance from the start of the route to the current location. */
+  distanceAlongRouteMeters: number;
+  /** Distance from the current location to the final destination. */
+  remainingDistanceMeters: number;
+  /**
+   * The remaining points, starting at the current location. Set when the
+   * encoding is `GeometryEncoding.OBJECTS`.
+   */
+  points?: LatLng[];
+  /**
+   * The remaining points as `[lat0, lng0, lat1, lng1, ...]`. Set when the
+   * encoding is `GeometryEncoding.PACKED`.
+   */
+  packedPoints?: number[];
+  /**
+   * The remaining points as a Google encoded polyline. Set when the encoding
+   * is `GeometryEncoding.ENCODED_POLYLINE`.
+   */
+  encodedPolyline?: string;
+}
+
 /** Options to be used inside the Simulator. */
 export interface LocationSimulationOptions {
   /** The speed the vehicle will be moving in the simulated route */
   readonly speedMultiplier: number;
 }
 
+/**
+ * A recorded location trace to replay. Exactly one of the fields must be set.
+ */
+export interface TraceReplaySource {
+  /** Path of a trace file on the device. */
+  path?: string;
+  /** A GPX document; its `trkpt` and `rtept` points are replayed in order. */
+  gpx?: string;
+  /**
+   * A trace in the compact binary format, base64 encoded: the ASCII magic
+   * `NVTR`, a version byte of 1, then per fix the zigzag-encoded varint
+   * deltas of latitude and longitude in 1e-6 degrees and of the time in
+   * milliseconds, each relative to the previous fix.
+   */
+  base64?: string;
+}
+
+/** Options for replaying a location trace. */
+export interface TraceReplayOptions {
+  /** Playback speed relative to the recorded timing. Defaults to 1. */
+  speedMultiplier?: number;
+  /** Restart the trace after its last fix. Defaults to false. */
+  loop?: boolean;
+  /**
+   * Standard deviation in meters of the position noise added to every fix.
+   * Defaults to 0.
+   */
+  positionJitterMeters?: number;
+  /**
+   * Maximum time in milliseconds a fix is delivered early or late. Jitter
+   * does not accumulate over the trace. Defaults to 0.
+   */
+  timingJitterMs?: number;
+  /** Seed of the jitter, to make a replay repeatable. */
+  seed?: number;
+  /**
+   * Interval in milliseconds between the fixes of a trace without
+   * timestamps, and between loops. Defaults to 1000.
+   */
+  defaultIntervalMs?: number;
+  /**
+   * Longest pause in milliseconds between two fixes, to skip long stops of a
+   * recording. Defaults to 0, which keeps the recorded pauses.
+   */
+  maxGapMs?: number;
+}
+
+/** The state of a trace replay. */
+export interface TraceReplayState {
+  state: 'IDLE' | 'LOADING' | 'PLAYING' | 'PAUSED';
+  /** Number of fixes in the trace. */
+  fixCount: number;
+  /** Index of the next fix to replay. */
+  index: number;
+  /** Number of completed loops. */
+  loopCount: number;
+  /** Duration of one loop in trace milliseconds, after `maxGapMs`. */
+  traceDurationMs: number;
+}
+
 /** Defines all callbacks to be emitted during navigation. */
 export interface NavigationCallbacks {
   /**
@@ -241,6 +876,15 @@ export interface NavigationCallbacks {
    */
   onRawLocationChanged?(location: Location): void;
 
+  /**
+   * Callback function invoked with a batch of road-snapped and raw locations
+   * when location updates were started with `LocationStreamingOptions`
+   * (Android only).
+   *
+   * @param batch - The fixes accepted since the previous batch.
+   */
+  onLocationBatch?(batch: LocationBatch): void;
+
   /**
    * A callback function that gets invoked when navigation information is ready.
    *
@@ -249,8 +893,11 @@ export interface NavigationCallbacks {
 
   /**
    * Callback function invoked when the route is changed.
+   *
+   * @param event - The generation of the new route and, if enabled with
+   *                `setRouteChangedEventOptions`, its segments.
    */
-  onRouteChanged?(): void;
+  onRouteChanged?(event: RouteChangedEvent): void;
 
   /**
    * Callback function invoked when rerouting is requested due to an
@@ -260,11 +907,16 @@ export interface NavigationCallbacks {
 
   /**
    * Callback function invoked when traffic data is updated (Android only).
+   *
+   * @param update - The distance ranges along the route whose traffic
+   *                 changed, so the route does not need to be fetched again.
    */
-  onTrafficUpdated?(): void;
+  onTrafficUpdated?(update: TrafficUpdate): void;
 
   /**
-   * Callback function when the remaining time or distance changes.
+   * Callback function when the remaining time or distance changes. How often
+   * it is invoked can be limited with
+   * `setRemainingTimeOrDistanceChangedOptions`.
    *
    * @param timeAndDistance - The current time and distance to the destination.
    */
@@ -277,6 +929,65 @@ export interface NavigationCallbacks {
    */
   onTurnByTurn?(turnByTurnEvents: TurnByTurnEvent[]): void;
 
+  /**
+   * Callback function invoked when a road-snapped location enters a geofence
+   * (Android only).
+   *
+   * @param event - The geofence and the location that entered it.
+   */
+  onGeofenceEnter?(event: GeofenceEvent): void;
+
+  /**
+   * Callback function invoked when a road-snapped location leaves a geofence
+   * (Android only).
+   *
+   * @param event - The geofence and the first location outside of it.
+   */
+  onGeofenceExit?(event: GeofenceEvent): void;
+
+  /**
+   * Callback function invoked once the user has stayed inside a geofence for
+   * its `dwellTimeMs` (Android only).
+   *
+   * @param event - The geofence and the current location.
+   */
+  onGeofenceDwell?(event: GeofenceEvent): void;
+
+  /**
+   * Callback function invoked periodically with the trip statistics, once an
+   * interval was set with `setTripStatisticsUpdateInterval` (Android only).
+   *
+   * @param tripStatistics - The statistics accumulated so far.
+   */
+  onTripStatisticsUpdated?(tripStatistics: TripStatistics): void;
+
+  /**
+   * Callback function invoked with a trip progress snapshot at the cadence
+   * set with `setTripProgressUpdateInterval`, whenever the snapshot changed
+   * since the previous one (Android only).
+   *
+   * @param tripProgress - The remaining time and distance, current step, next
+   *                       waypoint and current speed.
+   */
+  onTripProgress?(tripProgress: TripProgress): void;
+
+  /**
+   * Callback function invoked after every `setDestinations` request resolved,
+   * while enabled with `setRouteMetricsEventEnabled` (Android only).
+   *
+   * @param sample - The timing of the request.
+   */
+  onRouteRequestCompleted?(sample: RouteRequestSample): void;
+
+  /**
+   * Callback function invoked when a speeding episode starts, changes
+   * severity or ends (Android only). The speeding thresholds are set with
+   * `setSpeedAlertOptions`.
+   *
+   * @param event - The change and the aggregates of the episode.
+   */
+  onSpeeding?(event: SpeedingEvent): void;
+
   /**
    * Allows developers to listen for relevant debug logs (Android only).
    *
@@ -297,10 +1008,42 @@ export interface Simulator {
   simulateLocationsAlongExistingRoute(options: LocationSimulationOptions): void;
 
   /**
-   * Ends the currently running navigation simulation.
+   * Ends the currently running navigation simulation, including a trace
+   * replay.
    */
   stopLocationSimulation(): void;
 
+  /**
+   * Replays a recorded location trace, such as a real drive, into the
+   * simulator (Android only). The trace is read and the fixes are scheduled
+   * on a background thread, reproducing the recorded event rate. A running
+   * replay is stopped first.
+   *
+   * @param source - The trace, as a file path, GPX or base64 binary data.
+   * @param options - Timing, looping and jitter options.
+   * @returns the state once the trace is read. Rejects with code
+   *          `INVALID_OPTIONS` if the trace cannot be read.
+   */
+  startTraceReplay(
+    source: TraceReplaySource,
+    options?: TraceReplayOptions
+  ): Promise<TraceReplayState>;
+
+  /** Pauses the trace replay (Android only). */
+  pauseTraceReplay(): Promise<void>;
+
+  /** Resumes a paused trace replay where it left off (Android only). */
+  resumeTraceReplay(): Promise<void>;
+
+  /**
+   * Stops the trace replay (Android only). The last replayed location stays
+   * set until `stopLocationSimulation` is called.
+   */
+  stopTraceReplay(): Promise<void>;
+
+  /** Retrieves the state of the trace replay (Android only). */
+  getTraceReplayState(): Promise<TraceReplayState>;
+
   /**
    * Resumes the location simulation in case it's been paused.
    *
@@ -403,6 +1146,18 @@ export interface NavigationController {
    */
   getCurrentRouteSegment(): Promise<RouteSegment>;
 
+  /**
+   * Retrieves the current route segment with its points in the given encoding.
+   *
+   * @param encoding - How the points of the segment are encoded. Compact
+   *                   encodings transfer and parse much faster for long
+   *                   segments.
+   * @returns the current route segment.
+   */
+  getCurrentRouteSegment(
+    encoding: GeometryEncoding
+  ): Promise<EncodedRouteSegment>;
+
   /**
    * Retrieves an array of route segments from the navigation view module.
    *
@@ -411,6 +1166,106 @@ export interface NavigationController {
    */
   getRouteSegments(): Promise<RouteSegment[]>;
 
+  /**
+   * Retrieves the route segments with their points in the given encoding.
+   *
+   * @param encoding - How the points of the segments are encoded. Compact
+   *                   encodings transfer and parse much faster for long
+   *                   routes.
+   * @returns the segments of the current route.
+   */
+  getRouteSegments(encoding: GeometryEncoding): Promise<EncodedRouteSegment[]>;
+
+  /**
+   * Retrieves the route segments only if the route changed since the given
+   * generation. Converted segments are cached natively between route
+   * changes, so polling with an up to date generation is cheap.
+   *
+   * @param knownGeneration - The `generation` of the last snapshot the caller
+   *                          received, or -1 to always receive the segments.
+   * @param encoding - How the points of the segments are encoded. Defaults to
+   *                   `GeometryEncoding.OBJECTS`.
+   */
+  getRouteSegmentsIfChanged(
+    knownGeneration: number,
+    encoding?: GeometryEncoding
+  ): Promise<RouteSegmentsSnapshot>;
+
+  /**
+   * Configures whether `onRouteChanged` delivers the new route. Including it
+   * saves a `getRouteSegments` round trip right after a reroute. The segments
+   * are converted once natively and also serve the next `getRouteSegments`
+   * call for the same route.
+   */
+  setRouteChangedEventOptions(options: RouteChangedEventOptions): void;
+
+  /**
+   * Configures how often `onRemainingTimeOrDistanceChanged` is invoked. By
+   * default, every second and every meter of change is delivered; apps that
+   * only display a rounded ETA can raise the thresholds and limit the rate
+   * to skip changes that are not visible. Can be called before or during a
+   * navigation session; the native listener is re-registered with the new
+   * thresholds.
+   */
+  setRemainingTimeOrDistanceChangedOptions(
+    options: RemainingTimeOrDistanceChangedOptions
+  ): void;
+
+  /**
+   * Retrieves the whole current route as a single polyline, simplified
+   * natively with the Douglas-Peucker algorithm (Android only).
+   *
+   * A few levels of detail are precomputed whenever the route changes, so
+   * an overview of a very long route can be drawn with a few hundred points
+   * without transferring the full resolution geometry.
+   */
+  getRouteGeometry(options?: RouteGeometryOptions): Promise<RouteGeometry>;
+
+  /**
+   * Retrieves the part of the route that is not driven yet (Android only).
+   *
+   * Road-snapped locations are projected onto the route natively with an
+   * incremental search, so there is no need to combine `getRouteSegments`
+   * and `getTraveledPath` on every location update. To draw it, see
+   * `MapViewController.setRemainingRoutePolyline`. Requires tracking to be
+   * enabled with `setRemainingRouteTrackingEnabled`, unless a polyline
+   * follows the remaining route.
+   *
+   * @param encoding - How the points are encoded. Defaults to
+   *                   `GeometryEncoding.OBJECTS`.
+   */
+  getRemainingRoute(encoding?: GeometryEncoding): Promise<RemainingRoute>;
+
+  /**
+   * Enables tracking of the remaining route for `getRemainingRoute`
+   * (Android only). Tracking keeps road-snapped locations flowing natively
+   * and projects each of them onto the route, so it is disabled by default.
+   * A polyline set with `MapViewController.setRemainingRoutePolyline` is
+   * tracked regardless.
+   *
+   * @param enabled - Whether to track the remaining route.
+   */
+  setRemainingRouteTrackingEnabled(enabled: boolean): void;
+
+  /**
+   * Retrieves the traffic stretch at the given distance along the route
+   * (Android only). Stretches are indexed natively, so the lookup does not
+   * scan the traffic data of every segment.
+   *
+   * @param offsetMeters - Distance from the start of the route.
+   * @returns the stretch, or null if traffic is normal at that distance.
+   */
+  getTrafficAt(offsetMeters: number): Promise<TrafficStretch | null>;
+
+  /**
+   * Retrieves the traffic stretches overlapping the given distance range
+   * along the route, ordered by offset (Android only).
+   */
+  getTrafficRange(
+    fromMeters: number,
+    toMeters: number
+  ): Promise<TrafficStretch[]>;
+
   /**
    *
    * @returns the current time and distance information.
@@ -427,6 +1282,113 @@ export interface NavigationController {
    */
   getTraveledPath(): Promise<LatLng[]>;
 
+  /**
+   * Retrieves only the points appended to the traveled path since the given
+   * cursor, so that polling cost scales with the number of new points rather
+   * than the length of the trip.
+   *
+   * @param cursor - The cursor returned by the previous call, or 0 to start
+   *                 from the beginning of the path.
+   * @param epoch - The epoch returned by the previous call, or -1 on the
+   *                first call. A cursor from another epoch starts over.
+   * @param encoding - How the points are encoded. Defaults to
+   *                   `GeometryEncoding.OBJECTS`.
+   * @returns the new points and the cursor and epoch for the next call.
+   */
+  getTraveledPathSince(
+    cursor: number,
+    epoch: number,
+    encoding?: GeometryEncoding
+  ): Promise<TraveledPathChunk>;
+
+  /**
+   * Retrieves fixes from the native location history (Android only).
+   *
+   * While location updates are started or a native consumer such as
+   * geofences needs locations, every road-snapped and raw fix is kept in a
+   * fixed-capacity native buffer, so the app does not need to store
+   * location events itself. Pass the cursor of the previous call to pull
+   * only new fixes. The cursor follows the recording order, so it is not
+   * affected by fix times that step backwards.
+   *
+   * @param cursor - The cursor returned by the previous call, or 0 to start
+   *                 from the oldest fix held. Defaults to 0.
+   * @param maxCount - Maximum number of fixes returned per stream, oldest
+   *                   first. Defaults to no limit.
+   * @returns the recorded fixes in the packed columnar encoding.
+   */
+  getLocationHistory(
+    cursor?: number,
+    maxCount?: number
+  ): Promise<LocationHistory>;
+
+  /**
+   * Retrieves the fill level of the native location history (Android only).
+   */
+  getLocationHistoryStats(): Promise<LocationHistoryStats>;
+
+  /**
+   * Adds geofences that are evaluated natively on every road-snapped
+   * location (Android only). Transitions are reported through
+   * `onGeofenceEnter`, `onGeofenceExit` and `onGeofenceDwell`. Geofences do
+   * not require `startUpdatingLocation`, so they work without sending every
+   * fix to JS.
+   *
+   * @param geofences - The geofences to add. Existing geofences with the same
+   *                    id are replaced.
+   */
+  addGeofences(geofences: Geofence[]): Promise<void>;
+
+  /**
+   * Removes the geofences with the given ids (Android only).
+   */
+  removeGeofences(ids: string[]): Promise<void>;
+
+  /**
+   * Removes all geofences (Android only).
+   */
+  clearGeofences(): Promise<void>;
+
+  /**
+   * Retrieves the trip statistics accumulated natively from road-snapped
+   * locations (Android only). Locations are received while location updates
+   * are started, `onTripStatisticsUpdated` is enabled or another native
+   * consumer such as geofences needs them. The statistics are reset by
+   * `resetTripStatistics` and `cleanup`.
+   *
+   * @returns the distance, time, stop and speed statistics of the trip.
+   */
+  getTripStatistics(): Promise<TripStatistics>;
+
+  /**
+   * Resets the accumulated trip statistics (Android only).
+   */
+  resetTripStatistics(): Promise<void>;
+
+  /**
+   * Sets how often `onTripStatisticsUpdated` is emitted (Android only).
+   *
+   * @param intervalMs - Minimum time in milliseconds between two updates,
+   *                     measured on location timestamps. 0 disables the
+   *                     event, which is the default.
+   */
+  setTripStatisticsUpdateInterval(intervalMs: number): void;
+
+  /**
+   * Sets how often `onTripProgress` is emitted (Android only). One event
+   * replaces listening to remaining time and distance, turn-by-turn and
+   * location updates for a progress display. A snapshot is skipped if
+   * nothing changed since the previous one; speed changes below 0.5 m/s do
+   * not count. The current step is read from nav info, which is forwarded
+   * while the event is enabled, and so are road-snapped locations for the
+   * speed, without `startUpdatingLocation`.
+   *
+   * @param intervalMs - Time in milliseconds between two snapshots, for
+   *                     example 1000 for 1 Hz. 0 disables the event, which
+   *                     is the default.
+   */
+  setTripProgressUpdateInterval(intervalMs: number): void;
+
   /**
    * Asynchronously retrieves the version of the Navigation SDK.
    *
@@ -456,12 +1418,50 @@ export interface NavigationController {
    * @param options - Optional destination options including routing, display, or route token settings.
    *                  Note: routingOptions and routeTokenOptions are mutually exclusive.
    * @returns A promise that resolves with the RouteStatus indicating the result of route calculation.
+   *          All waypoints are validated before the current destinations are
+   *          replaced; if any is invalid, the promise rejects with code
+   *          `INVALID_OPTIONS` and a message listing each invalid waypoint by
+   *          index. A request that is replaced by a newer call before its
+   *          route is computed resolves right away with
+   *          `RouteStatus.SUPERSEDED`.
    */
   setDestinations(
     waypoints: Waypoint[],
     options?: SetDestinationsOptions
   ): Promise<RouteStatus>;
 
+  /**
+   * Configures how `setDestinations` requests are scheduled. A new request
+   * always supersedes the previous one: its route is no longer computed and
+   * its promise resolves with `RouteStatus.SUPERSEDED`. With a debounce
+   * window, a burst of calls, for example while a job is reassigned, only
+   * computes the route of the last call.
+   */
+  setRouteRequestOptions(options: RouteRequestOptions): void;
+
+  /**
+   * Retrieves the latency of `setDestinations` requests since the last
+   * reset (Android only). Each request is split into the time it waited
+   * for the debounce window, the time the SDK took to compute the route and
+   * the time to resolve the promise. Superseded requests are only counted.
+   * The most recent requests are listed with their waypoint count and
+   * routing options.
+   *
+   * @returns the latency percentiles of each phase and the recent requests.
+   */
+  getRouteMetrics(): Promise<RouteMetrics>;
+
+  /**
+   * Resets the recorded route request latency (Android only).
+   */
+  resetRouteMetrics(): Promise<void>;
+
+  /**
+   * Enables the `onRouteRequestCompleted` event (Android only). Disabled by
+   * default.
+   */
+  setRouteMetricsEventEnabled(enabled: boolean): void;
+
   /**
    * Proceeds to the next destination or waypoint within a predefined route.
    * Assumes that there is an ongoing route with multiple waypoints.
@@ -503,6 +1503,14 @@ export interface NavigationController {
    */
   setSpeedAlertOptions(speed: SpeedAlertOptions | null): void;
 
+  /**
+   * Configures the hysteresis of the `onSpeeding` event (Android only).
+   * Speeding is compared with the speed limit natively, and only severity
+   * changes of an episode are emitted: a rise right away, a drop or the end
+   * of the episode once it held for the configured delay.
+   */
+  setSpeedingEventOptions(options: SpeedingEventOptions): void;
+
   /**
    * Sets the audio guidance type according to the provided index.
    *
@@ -519,8 +1527,13 @@ export interface NavigationController {
 
   /**
    * Allows the library to start tracking location and providing updates.
+   *
+   * @param streamingOptions - Optional throttling and batching options. When
+   *                           provided, fixes are delivered through
+   *                           `onLocationBatch` instead of per-fix events
+   *                           (Android only, ignored on iOS).
    */
-  startUpdatingLocation(): void;
+  startUpdatingLocation(streamingOptions?: LocationStreamingOptions): void;
 
   /**
    * Enables location updates when the application is on the background.
@@ -534,8 +1547,34 @@ export interface NavigationController {
    * Enables or disables turn-by-turn logging.
    *
    * @param isEnabled - Determines whether the turn-by-turn logging should be enabled or disabled.
+   * @param options - Optional turn-by-turn event options (Android only).
+   */
+  setTurnByTurnLoggingEnabled(
+    isEnabled: boolean,
+    options?: TurnByTurnOptions
+  ): void;
+
+  /**
+   * Retrieves a page of the remaining steps of the latest turn-by-turn update
+   * from a native cache (Android only). Requires turn-by-turn logging to be
+   * enabled.
+   *
+   * @param offset - Index of the first step to return. Defaults to 0.
+   * @param limit - Maximum number of steps to return. Defaults to all steps
+   *                after the offset.
+   * @returns the requested steps and the total number of remaining steps.
+   */
+  getRemainingSteps(
+    offset?: number,
+    limit?: number
+  ): Promise<RemainingStepsPage>;
+
+  /**
+   * Retrieves the hit and miss counters of the native cache of converted
+   * turn-by-turn steps (Android only). Steps only change on reroute, so most
+   * turn-by-turn updates should be served from the cache.
    */
-  setTurnByTurnLoggingEnabled(isEnabled: boolean): void;
+  getStepConversionCacheStats(): Promise<StepConversionCacheStats>;
 
   /**
    * Simulator to be used in navigation.
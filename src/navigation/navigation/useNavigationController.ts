@@ -15,7 +15,7 @@
  */
 
 import { NativeModules, Platform } from 'react-native';
-import { useMemo, useCallback, useRef } from 'react';
+import { useMemo, useCallback, useEffect, useRef } from 'react';
 import {
   useEventSubscription,
   type LatLng,
@@ -25,7 +25,6 @@ import {
 import type {
   Waypoint,
   AudioGuidance,
-  RouteSegment,
   TimeAndDistance,
   RouteStatus,
 } from '../types';
@@ -38,8 +37,38 @@ import {
   type NavigationController,
   type SpeedAlertOptions,
   type LocationSimulationOptions,
+  type TraceReplaySource,
+  type TraceReplayOptions,
+  type TraceReplayState,
   type ArrivalEvent,
   type ContinueToNextDestinationResponse,
+  type LocationBatch,
+  type Geofence,
+  type GeofenceEvent,
+  type TripStatistics,
+  type TripProgress,
+  type TurnByTurnOptions,
+  type RemainingStepsPage,
+  type StepConversionCacheStats,
+  type TraveledPathChunk,
+  type RouteSegmentsSnapshot,
+  type RouteChangedEvent,
+  type RouteChangedEventOptions,
+  type RouteRequestOptions,
+  type RouteMetrics,
+  type RouteRequestSample,
+  type SpeedingEvent,
+  type SpeedingEventOptions,
+  type RemainingTimeOrDistanceChangedOptions,
+  type RouteGeometry,
+  type RouteGeometryOptions,
+  type TrafficStretch,
+  type RemainingRoute,
+  type TrafficUpdate,
+  GeometryEncoding,
+  type LocationHistory,
+  type LocationHistoryStats,
+  type LocationStreamingOptions,
 } from './types';
 
 const { NavModule } = NativeModules;
@@ -58,18 +87,46 @@ export type NavigationListenerSetters = {
   setOnRawLocationChanged: (
     callback: ((location: Location) => void) | null | undefined
   ) => void;
+  setOnLocationBatch: (
+    callback: ((batch: LocationBatch) => void) | null | undefined
+  ) => void;
   setOnNavigationReady: (callback: (() => void) | null | undefined) => void;
-  setOnRouteChanged: (callback: (() => void) | null | undefined) => void;
+  setOnRouteChanged: (
+    callback: ((event: RouteChangedEvent) => void) | null | undefined
+  ) => void;
   setOnReroutingRequestedByOffRoute: (
     callback: (() => void) | null | undefined
   ) => void;
-  setOnTrafficUpdated: (callback: (() => void) | null | undefined) => void;
+  setOnTrafficUpdated: (
+    callback: ((update: TrafficUpdate) => void) | null | undefined
+  ) => void;
   setOnRemainingTimeOrDistanceChanged: (
     callback: ((timeAndDistance: TimeAndDistance) => void) | null | undefined
   ) => void;
   setOnTurnByTurn: (
     callback: ((turnByTurnEvents: TurnByTurnEvent[]) => void) | null | undefined
   ) => void;
+  setOnGeofenceEnter: (
+    callback: ((event: GeofenceEvent) => void) | null | undefined
+  ) => void;
+  setOnGeofenceExit: (
+    callback: ((event: GeofenceEvent) => void) | null | undefined
+  ) => void;
+  setOnGeofenceDwell: (
+    callback: ((event: GeofenceEvent) => void) | null | undefined
+  ) => void;
+  setOnTripStatisticsUpdated: (
+    callback: ((tripStatistics: TripStatistics) => void) | null | undefined
+  ) => void;
+  setOnTripProgress: (
+    callback: ((tripProgress: TripProgress) => void) | null | undefined
+  ) => void;
+  setOnRouteRequestCompleted: (
+    callback: ((sample: RouteRequestSample) => void) | null | undefined
+  ) => void;
+  setOnSpeeding: (
+    callback: ((event: SpeedingEvent) => void) | null | undefined
+  ) => void;
   setLogDebugInfo: (
     callback: ((message: string) => void) | null | undefined
   ) => void;
@@ -141,18 +198,74 @@ export const useNavigationController = (
   const onRawLocationChangedRef = useRef<((location: Location) => void) | null>(
     null
   );
+  const onLocationBatchRef = useRef<((batch: LocationBatch) => void) | null>(
+    null
+  );
   const onNavigationReadyRef = useRef<(() => void) | null>(null);
-  const onRouteChangedRef = useRef<(() => void) | null>(null);
+  const onRouteChangedRef = useRef<((event: RouteChangedEvent) => void) | null>(
+    null
+  );
   const onReroutingRequestedByOffRouteRef = useRef<(() => void) | null>(null);
-  const onTrafficUpdatedRef = useRef<(() => void) | null>(null);
+  const onTrafficUpdatedRef = useRef<((update: TrafficUpdate) => void) | null>(
+    null
+  );
   const onRemainingTimeOrDistanceChangedRef = useRef<
     ((timeAndDistance: TimeAndDistance) => void) | null
   >(null);
   const onTurnByTurnRef = useRef<
     ((turnByTurnEvents: TurnByTurnEvent[]) => void) | null
   >(null);
+  const onGeofenceEnterRef = useRef<((event: GeofenceEvent) => void) | null>(
+    null
+  );
+  const onGeofenceExitRef = useRef<((event: GeofenceEvent) => void) | null>(
+    null
+  );
+  const onGeofenceDwellRef = useRef<((event: GeofenceEvent) => void) | null>(
+    null
+  );
+  const onTripStatisticsUpdatedRef = useRef<
+    ((tripStatistics: TripStatistics) => void) | null
+  >(null);
+  const onTripProgressRef = useRef<
+    ((tripProgress: TripProgress) => void) | null
+  >(null);
+  const onRouteRequestCompletedRef = useRef<
+    ((sample: RouteRequestSample) => void) | null
+  >(null);
+  const onSpeedingRef = useRef<((event: SpeedingEvent) => void) | null>(null);
   const logDebugInfoRef = useRef<((message: string) => void) | null>(null);
 
+  // Events whose native listeners this controller retains, while a callback
+  // is set. The native module only listens to these events while retained.
+  const retainedNativeListenersRef = useRef(new Set<string>());
+
+  const setNativeListenerRetained = useCallback(
+    (eventName: string, retained: boolean) => {
+      const retainedListeners = retainedNativeListenersRef.current;
+      if (retained === retainedListeners.has(eventName)) {
+        return;
+      }
+      if (retained) {
+        retainedListeners.add(eventName);
+        NavModule.retainNavigationListener(eventName);
+      } else {
+        retainedListeners.delete(eventName);
+        NavModule.releaseNavigationListener(eventName);
+      }
+    },
+    []
+  );
+
+  const releaseNativeListeners = useCallback(() => {
+    retainedNativeListenersRef.current.forEach(eventName => {
+      NavModule.releaseNavigationListener(eventName);
+    });
+    retainedNativeListenersRef.current.clear();
+  }, []);
+
+  useEffect(() => releaseNativeListeners, [releaseNativeListeners]);
+
   // Subscribe to events at the top level, routing to refs
   useEventSubscription('NavModule', 'onStartGuidance', () => {
     onStartGuidanceRef.current?.();
@@ -174,17 +287,33 @@ export const useNavigationController = (
     }
   );
 
-  useEventSubscription('NavModule', 'onRouteChanged', () => {
-    onRouteChangedRef.current?.();
-  });
+  useEventSubscription<LocationBatch>(
+    'NavModule',
+    'onLocationBatch',
+    payload => {
+      onLocationBatchRef.current?.(payload);
+    }
+  );
+
+  useEventSubscription<RouteChangedEvent>(
+    'NavModule',
+    'onRouteChanged',
+    payload => {
+      onRouteChangedRef.current?.(payload);
+    }
+  );
 
   useEventSubscription('NavModule', 'onReroutingRequestedByOffRoute', () => {
     onReroutingRequestedByOffRouteRef.current?.();
   });
 
-  useEventSubscription('NavModule', 'onTrafficUpdated', () => {
-    onTrafficUpdatedRef.current?.();
-  });
+  useEventSubscription<TrafficUpdate>(
+    'NavModule',
+    'onTrafficUpdated',
+    payload => {
+      onTrafficUpdatedRef.current?.(payload);
+    }
+  );
 
   useEventSubscription<{ timeAndDistance: TimeAndDistance }>(
     'NavModule',
@@ -210,6 +339,62 @@ export const useNavigationController = (
     }
   );
 
+  useEventSubscription<GeofenceEvent>(
+    'NavModule',
+    'onGeofenceEnter',
+    payload => {
+      onGeofenceEnterRef.current?.(payload);
+    }
+  );
+
+  useEventSubscription<GeofenceEvent>(
+    'NavModule',
+    'onGeofenceExit',
+    payload => {
+      onGeofenceExitRef.current?.(payload);
+    }
+  );
+
+  useEventSubscription<GeofenceEvent>(
+    'NavModule',
+    'onGeofenceDwell',
+    payload => {
+      onGeofenceDwellRef.current?.(payload);
+    }
+  );
+
+  useEventSubscription<{ tripStatistics: TripStatistics }>(
+    'NavModule',
+    'onTripStatisticsUpdated',
+    payload => {
+      onTripStatisticsUpdatedRef.current?.(payload.tripStatistics);
+    }
+  );
+
+  useEventSubscription<TripProgress>(
+    'NavModule',
+    'onTripProgress',
+    payload => {
+      onTripProgressRef.current?.(payload);
+    }
+  );
+
+  useEventSubscription<RouteRequestSample>(
+    'NavModule',
+    'onRouteRequestCompleted',
+    payload => {
+      onRouteRequestCompletedRef.current?.(payload);
+    }
+  );
+
+  useEventSubscription<SpeedingEvent>(
+    'NavModule',
+    'onSpeeding',
+    payload => {
+      onSpeedingRef.current?.(payload);
+    }
+  );
+
   useEventSubscription<{ message: string }>(
     'NavModule',
     'logDebugInfo',
@@ -229,8 +414,9 @@ export const useNavigationController = (
   const setOnArrival = useCallback(
     (callback: ((event: ArrivalEvent) => void) | null | undefined) => {
       onArrivalRef.current = callback ?? null;
+      setNativeListenerRetained('onArrival', callback != null);
     },
-    []
+    [setNativeListenerRetained]
   );
 
   const setOnLocationChanged = useCallback(
@@ -247,6 +433,13 @@ export const useNavigationController = (
     []
   );
 
+  const setOnLocationBatch = useCallback(
+    (callback: ((batch: LocationBatch) => void) | null | undefined) => {
+      onLocationBatchRef.current = callback ?? null;
+    },
+    []
+  );
+
   const setOnNavigationReady = useCallback(
     (callback: (() => void) | null | undefined) => {
       onNavigationReadyRef.current = callback ?? null;
@@ -255,24 +448,30 @@ export const useNavigationController = (
   );
 
   const setOnRouteChanged = useCallback(
-    (callback: (() => void) | null | undefined) => {
+    (callback: ((event: RouteChangedEvent) => void) | null | undefined) => {
       onRouteChangedRef.current = callback ?? null;
+      setNativeListenerRetained('onRouteChanged', callback != null);
     },
-    []
+    [setNativeListenerRetained]
   );
 
   const setOnReroutingRequestedByOffRoute = useCallback(
     (callback: (() => void) | null | undefined) => {
       onReroutingRequestedByOffRouteRef.current = callback ?? null;
+      setNativeListenerRetained(
+        'onReroutingRequestedByOffRoute',
+        callback != null
+      );
     },
-    []
+    [setNativeListenerRetained]
   );
 
   const setOnTrafficUpdated = useCallback(
-    (callback: (() => void) | null | undefined) => {
+    (callback: ((update: TrafficUpdate) => void) | null | undefined) => {
       onTrafficUpdatedRef.current = callback ?? null;
+      setNativeListenerRetained('onTrafficUpdated', callback != null);
     },
-    []
+    [setNativeListenerRetained]
   );
 
   const setOnRemainingTimeOrDistanceChanged = useCallback(
@@ -280,8 +479,12 @@ export const useNavigationController = (
       callback: ((timeAndDistance: TimeAndDistance) => void) | null | undefined
     ) => {
       onRemainingTimeOrDistanceChangedRef.current = callback ?? null;
+      setNativeListenerRetained(
+        'onRemainingTimeOrDistanceChanged',
+        callback != null
+      );
     },
-    []
+    [setNativeListenerRetained]
   );
 
   const setOnTurnByTurn = useCallback(
@@ -296,6 +499,58 @@ export const useNavigationController = (
     []
   );
 
+  const setOnGeofenceEnter = useCallback(
+    (callback: ((event: GeofenceEvent) => void) | null | undefined) => {
+      onGeofenceEnterRef.current = callback ?? null;
+    },
+    []
+  );
+
+  const setOnGeofenceExit = useCallback(
+    (callback: ((event: GeofenceEvent) => void) | null | undefined) => {
+      onGeofenceExitRef.current = callback ?? null;
+    },
+    []
+  );
+
+  const setOnGeofenceDwell = useCallback(
+    (callback: ((event: GeofenceEvent) => void) | null | undefined) => {
+      onGeofenceDwellRef.current = callback ?? null;
+    },
+    []
+  );
+
+  const setOnTripStatisticsUpdated = useCallback(
+    (
+      callback: ((tripStatistics: TripStatistics) => void) | null | undefined
+    ) => {
+      onTripStatisticsUpdatedRef.current = callback ?? null;
+    },
+    []
+  );
+
+  const setOnTripProgress = useCallback(
+    (callback: ((tripProgress: TripProgress) => void) | null | undefined) => {
+      onTripProgressRef.current = callback ?? null;
+    },
+    []
+  );
+
+  const setOnRouteRequestCompleted = useCallback(
+    (callback: ((sample: RouteRequestSample) => void) | null | undefined) => {
+      onRouteRequestCompletedRef.current = callback ?? null;
+    },
+    []
+  );
+
+  const setOnSpeeding = useCallback(
+    (callback: ((event: SpeedingEvent) => void) | null | undefined) => {
+      onSpeedingRef.current = callback ?? null;
+      setNativeListenerRetained('onSpeeding', callback != null);
+    },
+    [setNativeListenerRetained]
+  );
+
   const setLogDebugInfo = useCallback(
     (callback: ((message: string) => void) | null | undefined) => {
       logDebugInfoRef.current = callback ?? null;
@@ -308,14 +563,23 @@ export const useNavigationController = (
     onArrivalRef.current = null;
     onLocationChangedRef.current = null;
     onRawLocationChangedRef.current = null;
+    onLocationBatchRef.current = null;
     onNavigationReadyRef.current = null;
     onRouteChangedRef.current = null;
     onReroutingRequestedByOffRouteRef.current = null;
     onTrafficUpdatedRef.current = null;
     onRemainingTimeOrDistanceChangedRef.current = null;
     onTurnByTurnRef.current = null;
+    onGeofenceEnterRef.current = null;
+    onGeofenceExitRef.current = null;
+    onGeofenceDwellRef.current = null;
+    onTripStatisticsUpdatedRef.current = null;
+    onTripProgressRef.current = null;
+    onRouteRequestCompletedRef.current = null;
+    onSpeedingRef.current = null;
     logDebugInfoRef.current = null;
-  }, []);
+    releaseNativeListeners();
+  }, [releaseNativeListeners]);
 
   const setDestinationsImpl = async (
     waypoints: Waypoint[],
@@ -445,6 +709,22 @@ export const useNavigationController = (
         return await setDestinationsImpl(waypoints, options);
       },
 
+      setRouteRequestOptions: (options: RouteRequestOptions) => {
+        NavModule.setRouteRequestOptions(options);
+      },
+
+      getRouteMetrics: async (): Promise<RouteMetrics> => {
+        return (await NavModule.getRouteMetrics()) as RouteMetrics;
+      },
+
+      resetRouteMetrics: async (): Promise<void> => {
+        return await NavModule.resetRouteMetrics();
+      },
+
+      setRouteMetricsEventEnabled: (enabled: boolean) => {
+        NavModule.setRouteMetricsEventEnabled(enabled);
+      },
+
       continueToNextDestination:
         async (): Promise<ContinueToNextDestinationResponse> => {
           const result = await NavModule.continueToNextDestination();
@@ -481,6 +761,10 @@ export const useNavigationController = (
         );
       },
 
+      setSpeedingEventOptions: (options: SpeedingEventOptions) => {
+        NavModule.setSpeedingEventOptions(options);
+      },
+
       setAbnormalTerminatingReportingEnabled: (enabled: boolean) => {
         return NavModule.setAbnormalTerminatingReportingEnabled(enabled);
       },
@@ -495,16 +779,89 @@ export const useNavigationController = (
         }
       },
 
-      setTurnByTurnLoggingEnabled: (isEnabled: boolean) => {
-        NavModule.setTurnByTurnLoggingEnabled(isEnabled);
+      setTurnByTurnLoggingEnabled: (
+        isEnabled: boolean,
+        options?: TurnByTurnOptions
+      ) => {
+        NavModule.setTurnByTurnLoggingEnabled(
+          isEnabled,
+          options ? { ...options, valid: true } : { valid: false }
+        );
+      },
+
+      getRemainingSteps: async (
+        offset?: number,
+        limit?: number
+      ): Promise<RemainingStepsPage> => {
+        return await NavModule.getRemainingSteps(offset ?? 0, limit ?? -1);
+      },
+
+      getStepConversionCacheStats:
+        async (): Promise<StepConversionCacheStats> => {
+          return await NavModule.getStepConversionCacheStats();
+        },
+
+      getCurrentRouteSegment: async (encoding?: GeometryEncoding) => {
+        return await NavModule.getCurrentRouteSegment(
+          encoding ?? GeometryEncoding.OBJECTS
+        );
+      },
+
+      getRouteSegments: async (encoding?: GeometryEncoding) => {
+        return await NavModule.getRouteSegments(
+          encoding ?? GeometryEncoding.OBJECTS
+        );
+      },
+
+      getRouteSegmentsIfChanged: async (
+        knownGeneration: number,
+        encoding?: GeometryEncoding
+      ): Promise<RouteSegmentsSnapshot> => {
+        return await NavModule.getRouteSegmentsIfChanged(
+          knownGeneration,
+          encoding ?? GeometryEncoding.OBJECTS
+        );
+      },
+
+      setRouteChangedEventOptions: (options: RouteChangedEventOptions) => {
+        NavModule.setRouteChangedEventOptions(options);
+      },
+
+      setRemainingTimeOrDistanceChangedOptions: (
+        options: RemainingTimeOrDistanceChangedOptions
+      ) => {
+        NavModule.setRemainingTimeOrDistanceChangedOptions(options);
+      },
+
+      getRouteGeometry: async (
+        options?: RouteGeometryOptions
+      ): Promise<RouteGeometry> => {
+        return await NavModule.getRouteGeometry(options ?? {});
+      },
+
+      getRemainingRoute: async (
+        encoding?: GeometryEncoding
+      ): Promise<RemainingRoute> => {
+        return await NavModule.getRemainingRoute(
+          encoding ?? GeometryEncoding.OBJECTS
+        );
       },
 
-      getCurrentRouteSegment: async (): Promise<RouteSegment> => {
-        return await NavModule.getCurrentRouteSegment();
+      setRemainingRouteTrackingEnabled: (enabled: boolean) => {
+        NavModule.setRemainingRouteTrackingEnabled(enabled);
       },
 
-      getRouteSegments: async (): Promise<RouteSegment[]> => {
-        return await NavModule.getRouteSegments();
+      getTrafficAt: async (
+        offsetMeters: number
+      ): Promise<TrafficStretch | null> => {
+        return await NavModule.getTrafficAt(offsetMeters);
+      },
+
+      getTrafficRange: async (
+        fromMeters: number,
+        toMeters: number
+      ): Promise<TrafficStretch[]> => {
+        return await NavModule.getTrafficRange(fromMeters, toMeters);
       },
 
       getCurrentTimeAndDistance: async (): Promise<TimeAndDistance> => {
@@ -515,6 +872,57 @@ export const useNavigationController = (
         return await NavModule.getTraveledPath();
       },
 
+      getLocationHistory: async (
+        cursor?: number,
+        maxCount?: number
+      ): Promise<LocationHistory> => {
+        return await NavModule.getLocationHistory(cursor ?? 0, maxCount ?? 0);
+      },
+
+      getLocationHistoryStats: async (): Promise<LocationHistoryStats> => {
+        return await NavModule.getLocationHistoryStats();
+      },
+
+      addGeofences: async (geofences: Geofence[]): Promise<void> => {
+        return await NavModule.addGeofences(geofences);
+      },
+
+      removeGeofences: async (ids: string[]): Promise<void> => {
+        return await NavModule.removeGeofences(ids);
+      },
+
+      clearGeofences: async (): Promise<void> => {
+        return await NavModule.clearGeofences();
+      },
+
+      getTripStatistics: async (): Promise<TripStatistics> => {
+        return await NavModule.getTripStatistics();
+      },
+
+      resetTripStatistics: async (): Promise<void> => {
+        return await NavModule.resetTripStatistics();
+      },
+
+      setTripStatisticsUpdateInterval: (intervalMs: number) => {
+        NavModule.setTripStatisticsUpdateInterval(intervalMs);
+      },
+
+      setTripProgressUpdateInterval: (intervalMs: number) => {
+        NavModule.setTripProgressUpdateInterval(intervalMs);
+      },
+
+      getTraveledPathSince: async (
+        cursor: number,
+        epoch: number,
+        encoding?: GeometryEncoding
+      ): Promise<TraveledPathChunk> => {
+        return await NavModule.getTraveledPathSince(
+          cursor,
+          epoch,
+          encoding ?? GeometryEncoding.OBJECTS
+        );
+      },
+
       getNavSDKVersion: async (): Promise<string> => {
         return await NavModule.getNavSDKVersion();
       },
@@ -523,8 +931,12 @@ export const useNavigationController = (
         NavModule.stopUpdatingLocation();
       },
 
-      startUpdatingLocation: () => {
-        NavModule.startUpdatingLocation();
+      startUpdatingLocation: (streamingOptions?: LocationStreamingOptions) => {
+        NavModule.startUpdatingLocation(
+          streamingOptions
+            ? { ...streamingOptions, valid: true }
+            : { valid: false }
+        );
       },
 
       simulator: {
@@ -545,6 +957,27 @@ export const useNavigationController = (
         stopLocationSimulation: () => {
           NavModule.stopLocationSimulation();
         },
+        startTraceReplay: async (
+          source: TraceReplaySource,
+          options?: TraceReplayOptions
+        ): Promise<TraceReplayState> => {
+          return (await NavModule.startTraceReplay(
+            source,
+            options ?? {}
+          )) as TraceReplayState;
+        },
+        pauseTraceReplay: async () => {
+          return await NavModule.pauseTraceReplay();
+        },
+        resumeTraceReplay: async () => {
+          return await NavModule.resumeTraceReplay();
+        },
+        stopTraceReplay: async () => {
+          return await NavModule.stopTraceReplay();
+        },
+        getTraceReplayState: async (): Promise<TraceReplayState> => {
+          return (await NavModule.getTraceReplayState()) as TraceReplayState;
+        },
       },
     }),
     [termsAndConditionsDialogOptions, taskRemovedBehavior]
@@ -557,12 +990,20 @@ export const useNavigationController = (
     setOnArrival,
     setOnLocationChanged,
     setOnRawLocationChanged,
+    setOnLocationBatch,
     setOnNavigationReady,
     setOnRouteChanged,
     setOnReroutingRequestedByOffRoute,
     setOnTrafficUpdated,
     setOnRemainingTimeOrDistanceChanged,
     setOnTurnByTurn,
+    setOnGeofenceEnter,
+    setOnGeofenceExit,
+    setOnGeofenceDwell,
+    setOnTripStatisticsUpdated,
+    setOnTripProgress,
+    setOnRouteRequestCompleted,
+    setOnSpeeding,
     setLogDebugInfo,
   };
 };
@@ -121,6 +121,20 @@ export enum SpeedAlertSeverity {
   NONE,
 }
 
+/**
+ * The kinds of speeding events (Android only).
+ */
+export enum SpeedingEventType {
+  /** The driver started speeding. */
+  STARTED = 'STARTED',
+  /** The speed alert severity of the episode rose. */
+  UPGRADED = 'UPGRADED',
+  /** The speed alert severity of the episode dropped, after holding for the downgrade delay. */
+  DOWNGRADED = 'DOWNGRADED',
+  /** The driver stopped speeding, after not speeding for the end delay. */
+  ENDED = 'ENDED',
+}
+
 /**
  * The possible status values of the NavigationTrafficData.
  */
@@ -208,6 +222,11 @@ export enum RouteStatus {
   DUPLICATE_WAYPOINTS_ERROR = 'DUPLICATE_WAYPOINTS_ERROR',
   /** An unknown error has happened to generate the route. */
   UNKNOWN = 'UNKNOWN',
+  /**
+   * The request was replaced by a newer `setDestinations` call before its
+   * route was computed. Its route will not be applied.
+   */
+  SUPERSEDED = 'SUPERSEDED',
 }
 
 /**
@@ -302,6 +321,26 @@ export interface RouteSegment {
   segmentLatLngList: LatLng[];
 }
 
+/**
+ * A route segment whose points were requested in a compact `GeometryEncoding`.
+ * Exactly one of the point fields is set, depending on the encoding.
+ */
+export interface EncodedRouteSegment
+  extends Omit<RouteSegment, 'segmentLatLngList'> {
+  /** The points of the segment, for `GeometryEncoding.OBJECTS`. */
+  segmentLatLngList?: LatLng[];
+  /**
+   * The points of the segment as `[lat0, lng0, lat1, lng1, ...]`, for
+   * `GeometryEncoding.PACKED`.
+   */
+  packedSegmentLatLngs?: number[];
+  /**
+   * The points of the segment as a Google encoded polyline string, for
+   * `GeometryEncoding.ENCODED_POLYLINE`.
+   */
+  encodedPolyline?: string;
+}
+
 /**
  * Used to specify navigation destinations. It may be constructed from
  * a latitude/longitude pair, or a Google Place ID.
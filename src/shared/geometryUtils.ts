@@ -0,0 +1,65 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import type { LatLng } from './types';
+
+/**
+ * Converts a flat `[lat0, lng0, lat1, lng1, ...]` array, as returned for
+ * `GeometryEncoding.PACKED`, to `LatLng` objects.
+ *
+ * @param packed - The packed coordinates
+ * @returns The decoded points
+ */
+export function unpackLatLngs(packed: readonly number[]): LatLng[] {
+  const points: LatLng[] = new Array(packed.length >> 1);
+  for (let i = 0; i < points.length; i++) {
+    points[i] = { lat: packed[2 * i] ?? 0, lng: packed[2 * i + 1] ?? 0 };
+  }
+  return points;
+}
+
+/**
+ * Decodes a Google encoded polyline string, as returned for
+ * `GeometryEncoding.ENCODED_POLYLINE`.
+ *
+ * @param encoded - The encoded polyline
+ * @returns The decoded points
+ */
+export function decodePolyline(encoded: string): LatLng[] {
+  const points: LatLng[] = [];
+  let index = 0;
+  let lat = 0;
+  let lng = 0;
+
+  const readValue = (): number => {
+    let result = 0;
+    let shift = 0;
+    let byte: number;
+    do {
+      byte = encoded.charCodeAt(index++) - 63;
+      result |= (byte & 0x1f) << shift;
+      shift += 5;
+    } while (byte >= 0x20);
+    return result & 1 ? ~(result >> 1) : result >> 1;
+  };
+
+  while (index < encoded.length) {
+    lat += readValue();
+    lng += readValue();
+    points.push({ lat: lat * 1e-5, lng: lng * 1e-5 });
+  }
+  return points;
+}
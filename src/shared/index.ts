@@ -19,3 +19,5 @@ export * from './useModuleListeners';
 export * from './viewIdUtil';
 export * from './useNativeEventCallback';
 export * from './colorUtils';
+export * from './packedLocationUtils';
+export * from './geometryUtils';
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import {
+  PackedLocationFlags,
+  type Location,
+  type PackedLocations,
+} from './types';
+
+/**
+ * Decodes a single fix from a packed location list.
+ *
+ * Prefer reading the columns of `PackedLocations` directly on hot paths; this
+ * helper is meant for the few fixes that need to become `Location` objects.
+ *
+ * @param packed - The packed location list
+ * @param index - Index of the fix, between 0 and `packed.count - 1`
+ * @returns The decoded location
+ */
+export function getPackedLocation(
+  packed: PackedLocations,
+  index: number
+): Location {
+  const flags = packed.flags[index] ?? 0;
+  const location: Location = {
+    lat: packed.lat[index] ?? 0,
+    lng: packed.lng[index] ?? 0,
+    time: packed.time[index] ?? 0,
+    speed: packed.speed[index] ?? 0,
+    provider: packed.providers[packed.providerIndex[index] ?? 0],
+  };
+  if (flags & PackedLocationFlags.HAS_BEARING) {
+    location.bearing = packed.bearing[index];
+  }
+  if (flags & PackedLocationFlags.HAS_ACCURACY) {
+    location.accuracy = packed.accuracy[index];
+  }
+  if (flags & PackedLocationFlags.HAS_ALTITUDE) {
+    location.altitude = packed.altitude[index];
+  }
+  return location;
+}
+
+/**
+ * Decodes every fix of a packed location list.
+ *
+ * @param packed - The packed location list
+ * @returns The decoded locations, oldest first
+ */
+export function unpackLocations(packed: PackedLocations): Location[] {
+  const locations: Location[] = new Array(packed.count);
+  for (let i = 0; i < packed.count; i++) {
+    locations[i] = getPackedLocation(packed, i);
+  }
+  return locations;
+}
@@ -77,3 +77,47 @@ export interface Location {
    */
   time: number;
 }
+
+/**
+ * Bit flags of the `PackedLocations.flags` column, telling which optional
+ * columns hold a value for a given fix.
+ */
+export enum PackedLocationFlags {
+  HAS_BEARING = 1,
+  HAS_ACCURACY = 1 << 1,
+  HAS_ALTITUDE = 1 << 2,
+}
+
+/**
+ * A list of locations encoded column by column. Every array has `count`
+ * entries and index `i` across all arrays describes the same fix, so large
+ * batches can be read without creating an object per fix.
+ *
+ * Optional values that are not available for a fix are stored as 0; check
+ * `flags[i]` against `PackedLocationFlags` to tell them apart from real zeros.
+ * Vertical accuracy is not included in the packed encoding.
+ */
+export interface PackedLocations {
+  /** Number of fixes in the list. */
+  count: number;
+  /** Latitudes in degrees. */
+  lat: number[];
+  /** Longitudes in degrees. */
+  lng: number[];
+  /** Fix times in milliseconds since Unix Epoch. */
+  time: number[];
+  /** Speeds in meters per second. */
+  speed: number[];
+  /** Bearings in degrees. */
+  bearing: number[];
+  /** Horizontal accuracies in meters. */
+  accuracy: number[];
+  /** Altitudes in meters. */
+  altitude: number[];
+  /** Per-fix `PackedLocationFlags` bit masks. */
+  flags: number[];
+  /** Per-fix index into `providers`. */
+  providerIndex: number[];
+  /** Interned provider names. */
+  providers: string[];
+}